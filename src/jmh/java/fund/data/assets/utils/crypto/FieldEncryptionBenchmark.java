@@ -0,0 +1,72 @@
+package fund.data.assets.utils.crypto;
+
+import fund.data.assets.utils.converter.LazyStringCryptoConverter;
+
+import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнение конвертера с прежним PBE-шифратором и с {@link AesGcmStringEncryptor}. Расшифровка ленивая, потому
+ * замеряется вместе с обращением к значению.
+ * Запуск - ./gradlew jmh.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FieldEncryptionBenchmark {
+    private static final String FIELD_VALUE = "testEmail@test.com";
+    private static final LazyDecryptedString FIELD_PLAIN_VALUE = LazyDecryptedString.ofPlain(FIELD_VALUE);
+    private LazyStringCryptoConverter pbeConverter;
+    private LazyStringCryptoConverter aesGcmConverter;
+    private String pbeEncryptedValue;
+    private String aesGcmEncryptedValue;
+
+    @Setup
+    public void setUp() {
+        StandardPBEStringEncryptor pbeEncryptor = new StandardPBEStringEncryptor();
+
+        pbeEncryptor.setPassword("password");
+        pbeEncryptor.setAlgorithm("PBEWithMD5AndDES");
+        pbeConverter = new LazyStringCryptoConverter(pbeEncryptor);
+        aesGcmConverter = new LazyStringCryptoConverter(new AesGcmStringEncryptor("aesGcmPassword",
+                "aesGcmSalt", 310000, pbeEncryptor));
+        pbeEncryptedValue = pbeConverter.convertToDatabaseColumn(FIELD_PLAIN_VALUE);
+        aesGcmEncryptedValue = aesGcmConverter.convertToDatabaseColumn(FIELD_PLAIN_VALUE);
+    }
+
+    @Benchmark
+    public String pbeEncrypt() {
+        return pbeConverter.convertToDatabaseColumn(FIELD_PLAIN_VALUE);
+    }
+
+    @Benchmark
+    public String pbeDecrypt() {
+        return pbeConverter.convertToEntityAttribute(pbeEncryptedValue).getValue();
+    }
+
+    @Benchmark
+    public String aesGcmEncrypt() {
+        return aesGcmConverter.convertToDatabaseColumn(FIELD_PLAIN_VALUE);
+    }
+
+    @Benchmark
+    public String aesGcmDecrypt() {
+        return aesGcmConverter.convertToEntityAttribute(aesGcmEncryptedValue).getValue();
+    }
+
+    @Benchmark
+    public String aesGcmDecryptLegacyValue() {
+        return aesGcmConverter.convertToEntityAttribute(pbeEncryptedValue).getValue();
+    }
+}
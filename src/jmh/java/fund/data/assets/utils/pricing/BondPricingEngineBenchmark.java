@@ -0,0 +1,47 @@
+package fund.data.assets.utils.pricing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Расчёт показателей облигаций {@link BondPricingEngine} без создания JPA-сущностей.
+ * Запуск - ./gradlew jmh.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BondPricingEngineBenchmark {
+    @Param({"1", "10000"})
+    private int bondsCount;
+    private final BondPricingEngine bondPricingEngine = new BondPricingEngine();
+    private List<BondPricingInput> inputs;
+
+    @Setup
+    public void setUp() {
+        long valuationEpochDay = LocalDate.of(2024, 1, 1).toEpochDay();
+
+        inputs = new ArrayList<>(bondsCount);
+        for (int i = 0; i < bondsCount; i++) {
+            inputs.add(new BondPricingInput(10, 100000L, 950000L + (i % 10) * 10000L, 1250L, 3000L, 4000L,
+                    4 + i % 8, valuationEpochDay + 365 + i % 1000, valuationEpochDay, true));
+        }
+    }
+
+    @Benchmark
+    public List<BondPricingResult> calculateAll() {
+        return bondPricingEngine.calculateAll(inputs);
+    }
+}
@@ -0,0 +1,34 @@
+package fund.data.assets.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Конфигурация внутрипроцессных кэшей. Кэши - Caffeine, их размер и время жизни записей задаются
+ * spec в spring.cache.caffeine, а статистика попаданий/промахов публикуется в Micrometer
+ * (/actuator/metrics/cache.gets).
+ * Имена кэшей должны быть перечислены в spring.cache.cache-names, иначе метрики по ним не регистрируются.
+ * Отдельно от них работает кэш второго уровня Hibernate для банковских счетов, которые перечитываются
+ * по id почти при каждой операции с остатками и активами. Ставки комиссии в него не попадают: их кэширует
+ * только {@link #TURNOVER_COMMISSION_PERCENT_VALUES_CACHE}. Кэш второго уровня построен на JCache-реализации
+ * Caffeine: размеры регионов заданы в application.conf, статистика по региону публикуется в Micrometer
+ * (/actuator/metrics/hibernate.second.level.cache.requests), если включена hibernate.generate_statistics.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    /**
+     * Размер комиссии с оборота по ключу (id счёта, тип актива).
+     */
+    public static final String TURNOVER_COMMISSION_PERCENT_VALUES_CACHE = "turnoverCommissionPercentValues";
+    /**
+     * Ключи идемпотентности уже проведённых операций с денежными средствами.
+     */
+    public static final String CASH_OPERATION_IDEMPOTENCY_KEYS_CACHE = "cashOperationIdempotencyKeys";
+    /**
+     * Регион кэша второго уровня для банковских счетов.
+     */
+    public static final String ACCOUNTS_REGION = "accounts";
+}
@@ -0,0 +1,72 @@
+package fund.data.assets.config;
+
+import fund.data.assets.utils.crypto.AesGcmStringEncryptor;
+
+import org.jasypt.encryption.StringEncryptor;
+import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Настройки шифрования полей собственников активов.
+ * Движок шифрования выбирается crypto.field-encryption.engine:
+ * pbe - пул PBE-шифраторов jasypt, т.к. одиночный StandardPBEStringEncryptor обрабатывает вызовы последовательно;
+ * aes-gcm - {@link AesGcmStringEncryptor}, который читает и значения, зашифрованные PBE.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Configuration
+public class CryptoConfig {
+    public static final String PBE_ENGINE = "pbe";
+    public static final String AES_GCM_ENGINE = "aes-gcm";
+    public static final String UNKNOWN_ENGINE_WARNING = "Unknown field encryption engine in" +
+            " crypto.field-encryption.engine!";
+    //TODO - Ближе к деплою, пароли и соль нужно хранить ВНЕ кода проекта, а не в application.yml.
+    @Value("${crypto.field-encryption.engine:" + PBE_ENGINE + "}")
+    private String engine;
+    @Value("${crypto.field-encryption.password}")
+    private String password;
+    @Value("${crypto.field-encryption.algorithm}")
+    private String algorithm;
+    @Value("${crypto.field-encryption.pool-size:0}")
+    private int poolSize;
+    @Value("${crypto.field-encryption.aes-gcm.password}")
+    private String aesGcmPassword;
+    @Value("${crypto.field-encryption.aes-gcm.salt}")
+    private String aesGcmSalt;
+    @Value("${crypto.field-encryption.aes-gcm.key-derivation-iterations:310000}")
+    private int aesGcmKeyDerivationIterations;
+
+    /**
+     * Шифратор для {@link fund.data.assets.utils.converter.LazyStringCryptoConverter}.
+     * @return Потокобезопасный шифратор выбранного в crypto.field-encryption.engine движка.
+     * @throws IllegalArgumentException Если движок в настройках неизвестен.
+     * @since 0.0.1-alpha
+     */
+    @Bean
+    public StringEncryptor fieldStringEncryptor() {
+        return switch (engine) {
+            case PBE_ENGINE -> pooledPBEStringEncryptor();
+            case AES_GCM_ENGINE -> new AesGcmStringEncryptor(aesGcmPassword, aesGcmSalt,
+                    aesGcmKeyDerivationIterations, pooledPBEStringEncryptor());
+            default -> throw new IllegalArgumentException(UNKNOWN_ENGINE_WARNING);
+        };
+    }
+
+    /**
+     * @return Пул PBE-шифраторов. Размер пула задаётся crypto.field-encryption.pool-size.
+     * Если размер не задан или не положителен, пул создаётся по числу доступных ядер.
+     * @since 0.0.1-alpha
+     */
+    private StringEncryptor pooledPBEStringEncryptor() {
+        PooledPBEStringEncryptor encryptor = new PooledPBEStringEncryptor();
+
+        encryptor.setPassword(password);
+        encryptor.setAlgorithm(algorithm);
+        encryptor.setPoolSize(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors());
+
+        return encryptor;
+    }
+}
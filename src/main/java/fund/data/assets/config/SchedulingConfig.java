@@ -0,0 +1,15 @@
+package fund.data.assets.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Включает выполнение задач по расписанию (@Scheduled), к примеру, ежедневного пересчёта доходностей облигаций
+ * {@link fund.data.assets.job.BondYieldsRecalculationJob}.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,7 +2,9 @@ package fund.data.assets.controller;
 
 import fund.data.assets.dto.AccountCashDTO;
 import fund.data.assets.model.financial_entities.AccountCash;
+import fund.data.assets.model.financial_entities.CashMovement;
 import fund.data.assets.service.AccountCashService;
+import fund.data.assets.utils.KeysetPagination;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -17,9 +19,11 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.PostMapping;
 
 import java.util.List;
@@ -38,7 +42,11 @@ import static fund.data.assets.controller.AccountCashController.ACCOUNT_CASH_CON
 public class AccountCashController {
     public static final String ACCOUNT_CASH_CONTROLLER_PATH = "/account_cash";
     public static final String ID_PATH = "/{id}";
+    public static final String MOVEMENTS_PATH = "/movements";
+    public static final String BATCH_PATH = "/batch";
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
     private final AccountCashService accountCashService;
+    private final KeysetPagination keysetPagination;
 
     @Operation(summary = "Get owner account cash info by id")
     @ApiResponse(responseCode = "200", content = @Content(
@@ -54,14 +62,39 @@ public class AccountCashController {
             schema = @Schema(implementation = AccountCash.class)))
     )
     @GetMapping
-    public ResponseEntity<List<AccountCash>> getAllCash() {
-        return ResponseEntity.ok().body(accountCashService.getAllCash());
+    public ResponseEntity<List<AccountCash>> getAllCash(@RequestParam(required = false) Long afterId,
+                                                        @RequestParam(required = false) Integer pageSize) {
+        return keysetPagination.toResponseEntity(accountCashService.getAllCash(afterId, pageSize), pageSize,
+                AccountCash::getId);
     }
 
-    @Operation(summary = "Change owner account cash amount")
+    @Operation(summary = "Get owner account cash movements history")
+    @ApiResponses(@ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = CashMovement.class)))
+    )
+    @GetMapping(ID_PATH + MOVEMENTS_PATH)
+    public ResponseEntity<List<CashMovement>> getCashMovements(@PathVariable Long id,
+                                                               @RequestParam(required = false) Long afterId,
+                                                               @RequestParam(required = false) Integer pageSize) {
+        return keysetPagination.toResponseEntity(accountCashService.getCashMovements(id, afterId, pageSize),
+                pageSize, CashMovement::getId);
+    }
+
+    @Operation(summary = "Change owner account cash amount, repeats with the same Idempotency-Key aren't applied")
     @ApiResponse(responseCode = "200", description = "Cash amount changed")
     @PostMapping
-    public ResponseEntity<AccountCash> depositOrWithdrawCashAmount(@RequestBody @Valid AccountCashDTO accountCashDTO) {
-        return ResponseEntity.ok().body(accountCashService.depositOrWithdrawCashAmount(accountCashDTO));
+    public ResponseEntity<AccountCash> depositOrWithdrawCashAmount(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody @Valid AccountCashDTO accountCashDTO) {
+        return ResponseEntity.ok().body(accountCashService.depositOrWithdrawCashAmount(accountCashDTO,
+                idempotencyKey));
+    }
+
+    @Operation(summary = "Change owners account cash amounts by batch of operations in one transaction")
+    @ApiResponse(responseCode = "200", description = "Cash amounts changed, affected cash returned in batch order")
+    @PostMapping(BATCH_PATH)
+    public ResponseEntity<List<AccountCash>> depositOrWithdrawCashAmounts(
+            @RequestBody List<AccountCashDTO> accountCashDTOs) {
+        return ResponseEntity.ok().body(accountCashService.depositOrWithdrawCashAmounts(accountCashDTOs));
     }
 }
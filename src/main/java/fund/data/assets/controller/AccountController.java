@@ -3,6 +3,7 @@ package fund.data.assets.controller;
 import fund.data.assets.dto.AccountDTO;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.service.AccountService;
+import fund.data.assets.utils.KeysetPagination;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,6 +21,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -41,6 +43,7 @@ public class AccountController {
     public static final String ACCOUNT_CONTROLLER_PATH = "/accounts";
     public static final String ID_PATH = "/{id}";
     private final AccountService accountService;
+    private final KeysetPagination keysetPagination;
 
     @Operation(summary = "Get account by id")
     @ApiResponse(responseCode = "200", content = @Content(
@@ -56,8 +59,10 @@ public class AccountController {
             schema = @Schema(implementation = Account.class)))
     )
     @GetMapping
-    public ResponseEntity<List<Account>> getAccounts() {
-        return ResponseEntity.ok().body(accountService.getAccounts());
+    public ResponseEntity<List<Account>> getAccounts(@RequestParam(required = false) Long afterId,
+                                                     @RequestParam(required = false) Integer pageSize) {
+        return keysetPagination.toResponseEntity(accountService.getAccounts(afterId, pageSize), pageSize,
+                Account::getId);
     }
 
     @Operation(summary = "Create new account")
@@ -3,6 +3,12 @@ package fund.data.assets.controller;
 //import fund.data.assets.dto.FixedRateBondDTO;
 import fund.data.assets.model.asset.exchange.FixedRateBond;
 import fund.data.assets.service.FixedRateBondService;
+import fund.data.assets.utils.KeysetPagination;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.BondYieldType;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.ISINHoldings;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.IssuerAggregate;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.MaturityBucket;
+import fund.data.assets.utils.analytics.FixedRateBondMetrics;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,8 +20,10 @@ import jakarta.validation.Valid;
 
 import lombok.AllArgsConstructor;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -33,7 +41,15 @@ import static fund.data.assets.controller.FixedRateBondController.FIXED_RATE_BON
 public class FixedRateBondController {
     public static final String FIXED_RATE_BOND_CONTROLLER_PATH = "/bonds/simple";
     public static final String ID_PATH = "/{id}";
+    public static final String ISIN_PATH = "/isin/{iSIN}";
+    public static final String ISIN_HOLDINGS_PATH = ISIN_PATH + "/holdings";
+    public static final String EXPORT_PATH = "/export";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+    public static final String TOP_BY_YIELD_PATH = "/analytics/top-by-yield";
+    public static final String MATURITY_BUCKETS_PATH = "/analytics/maturity-buckets";
+    public static final String ISSUERS_PATH = "/analytics/issuers";
     private final FixedRateBondService fixedRateBondService;
+    private final KeysetPagination keysetPagination;
 
     @Operation(summary = "Get fixed rate bond by id")
     @ApiResponse(responseCode = "200", content = @Content(
@@ -49,8 +65,67 @@ public class FixedRateBondController {
             schema = @Schema(implementation = FixedRateBond.class)))
     )
     @GetMapping
-    public ResponseEntity<List<FixedRateBond>> getFixedRateBonds() {
-        return ResponseEntity.ok().body(fixedRateBondService.getFixedRateBonds());
+    public ResponseEntity<List<FixedRateBond>> getFixedRateBonds(
+            @RequestParam(required = false) Long afterId, @RequestParam(required = false) Integer pageSize) {
+        return keysetPagination.toResponseEntity(fixedRateBondService.getFixedRateBonds(afterId, pageSize), pageSize,
+                FixedRateBond::getId);
+    }
+
+    @Operation(summary = "Get fixed rate bonds of one issue by ISIN across all owners and accounts")
+    @ApiResponses(@ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = FixedRateBond.class)))
+    )
+    @GetMapping(ISIN_PATH)
+    public ResponseEntity<List<FixedRateBond>> getFixedRateBondsByISIN(@PathVariable String iSIN) {
+        return ResponseEntity.ok().body(fixedRateBondService.getFixedRateBondsByISIN(iSIN));
+    }
+
+    @Operation(summary = "Get total count of fixed rate bonds of one issue by ISIN across all owners and accounts")
+    @ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = ISINHoldings.class))
+    )
+    @GetMapping(ISIN_HOLDINGS_PATH)
+    public ResponseEntity<ISINHoldings> getFixedRateBondHoldingsByISIN(@PathVariable String iSIN) {
+        return ResponseEntity.ok().body(fixedRateBondService.getFixedRateBondHoldingsByISIN(iSIN));
+    }
+
+    @Operation(summary = "Export all fixed rate bonds with their owners and accounts as NDJSON stream")
+    @ApiResponse(responseCode = "200", description = "One JSON object per line")
+    @GetMapping(value = EXPORT_PATH, produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportFixedRateBondHoldings() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .body(fixedRateBondService::exportFixedRateBondHoldings);
+    }
+
+    @Operation(summary = "Get fixed rate bonds with the highest yield from in-memory analytics snapshot")
+    @ApiResponses(@ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = FixedRateBondMetrics.class)))
+    )
+    @GetMapping(TOP_BY_YIELD_PATH)
+    public ResponseEntity<List<FixedRateBondMetrics>> getTopFixedRateBondsByYield(
+            @RequestParam(required = false) BondYieldType yieldType, @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok().body(fixedRateBondService.getTopFixedRateBondsByYield(yieldType, limit));
+    }
+
+    @Operation(summary = "Count fixed rate bonds by maturity date intervals from in-memory analytics snapshot")
+    @ApiResponses(@ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = MaturityBucket.class)))
+    )
+    @GetMapping(MATURITY_BUCKETS_PATH)
+    public ResponseEntity<List<MaturityBucket>> getFixedRateBondsMaturityBuckets(
+            @RequestParam(required = false) Integer bucketDays, @RequestParam(required = false) Integer bucketsCount) {
+        return ResponseEntity.ok().body(fixedRateBondService.getFixedRateBondsMaturityBuckets(bucketDays,
+                bucketsCount));
+    }
+
+    @Operation(summary = "Aggregate fixed rate bonds by issuer from in-memory analytics snapshot")
+    @ApiResponses(@ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = IssuerAggregate.class)))
+    )
+    @GetMapping(ISSUERS_PATH)
+    public ResponseEntity<List<IssuerAggregate>> getFixedRateBondsIssuerAggregates() {
+        return ResponseEntity.ok().body(fixedRateBondService.getFixedRateBondsIssuerAggregates());
     }
 
 //    @Operation(summary = "Buy fixed rate bond first time on this account")
@@ -5,6 +5,8 @@ import fund.data.assets.dto.owner.PersonalDataRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.NewRussianAssetsOwnerDTO;
 import fund.data.assets.model.owner.RussianAssetsOwner;
 import fund.data.assets.service.RussianAssetsOwnerService;
+import fund.data.assets.utils.KeysetPagination;
+import fund.data.assets.validation.group.DatabaseUniquenessChecks;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,12 +15,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import jakarta.validation.Valid;
+import jakarta.validation.groups.Default;
 
 import lombok.AllArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -26,6 +31,8 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.io.InputStream;
+
 import java.util.List;
 
 import static fund.data.assets.controller.RussianAssetsOwnerController.RUSSIAN_OWNERS_CONTROLLER_PATH;
@@ -44,7 +51,11 @@ public class RussianAssetsOwnerController {
     public static final String ID_PATH = "/{id}";
     public static final String PERSONAL_DATA_PATH = "/personal";
     public static final String CONTACT_DATA_PATH = "/contacts";
+    public static final String HOLDINGS_PATH = "/holdings";
+    public static final String IMPORT_PATH = "/import";
+    public static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
     private final RussianAssetsOwnerService russianAssetsOwnerService;
+    private final KeysetPagination keysetPagination;
 
     @Operation(summary = "Get russian assets owner by id")
     @ApiResponse(responseCode = "200", content = @Content(
@@ -55,24 +66,43 @@ public class RussianAssetsOwnerController {
         return ResponseEntity.ok().body(russianAssetsOwnerService.getRussianAssetsOwner(id));
     }
 
+    @Operation(summary = "Get russian assets owner by id with his assets relationships and assets")
+    @ApiResponse(responseCode = "200", content = @Content(
+            schema = @Schema(implementation = RussianAssetsOwner.class))
+    )
+    @GetMapping(ID_PATH + HOLDINGS_PATH)
+    public ResponseEntity<RussianAssetsOwner> getRussianAssetsOwnerWithHoldings(@PathVariable Long id) {
+        return ResponseEntity.ok().body(russianAssetsOwnerService.getRussianAssetsOwnerWithHoldings(id));
+    }
+
     @Operation(summary = "Get all russian assets owners")
     @ApiResponses(@ApiResponse(responseCode = "200", content = @Content(
             schema = @Schema(implementation = RussianAssetsOwner.class)))
     )
     @GetMapping
-    public ResponseEntity<List<RussianAssetsOwner>> getRussianAssetsOwners() {
-        return ResponseEntity.ok().body(russianAssetsOwnerService.getRussianAssetsOwners());
+    public ResponseEntity<List<RussianAssetsOwner>> getRussianAssetsOwners(
+            @RequestParam(required = false) Long afterId, @RequestParam(required = false) Integer pageSize) {
+        return keysetPagination.toResponseEntity(russianAssetsOwnerService.getRussianAssetsOwners(afterId, pageSize),
+                pageSize, RussianAssetsOwner::getId);
     }
 
     @Operation(summary = "Create new russian assets owner")
     @ApiResponse(responseCode = "201", description = "Russian assets owner created")
     @PostMapping
-    public ResponseEntity<RussianAssetsOwner> createRussianAssetsOwner(@RequestBody @Valid NewRussianAssetsOwnerDTO
-                                                                                   newRussianAssetsOwnerDTO) {
+    public ResponseEntity<RussianAssetsOwner> createRussianAssetsOwner(@RequestBody
+    @Validated({Default.class, DatabaseUniquenessChecks.class}) NewRussianAssetsOwnerDTO newRussianAssetsOwnerDTO) {
         return ResponseEntity.created(null).body(russianAssetsOwnerService.createRussianAssetsOwner(
                 newRussianAssetsOwnerDTO));
     }
 
+    @Operation(summary = "Import russian assets owners from NDJSON, one new owner per line")
+    @ApiResponse(responseCode = "201", description = "Russian assets owners imported, ids returned in lines order")
+    @PostMapping(value = IMPORT_PATH, consumes = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<List<Long>> importRussianAssetsOwners(InputStream ndjsonInputStream) {
+        return ResponseEntity.created(null).body(russianAssetsOwnerService.importRussianAssetsOwners(
+                ndjsonInputStream));
+    }
+
     @Operation(summary = "Update personal data of russian assets owner")
     @ApiResponse(responseCode = "200", description = "Russian assets owner personal data updated")
     @PutMapping(PERSONAL_DATA_PATH + ID_PATH)
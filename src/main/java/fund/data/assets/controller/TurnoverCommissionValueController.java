@@ -4,6 +4,7 @@ import fund.data.assets.dto.common.PercentFloatValueDTO;
 import fund.data.assets.dto.TurnoverCommissionValueDTO;
 import fund.data.assets.model.financial_entities.TurnoverCommissionValue;
 import fund.data.assets.service.TurnoverCommissionValueService;
+import fund.data.assets.utils.KeysetPagination;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,6 +19,7 @@ import lombok.AllArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -42,6 +44,7 @@ public class TurnoverCommissionValueController {
     public static final String TURNOVER_COMMISSION_VALUE_CONTROLLER_PATH = "/turnover-commission-values";
     public static final String ID_PATH = "/{id}";
     private final TurnoverCommissionValueService turnoverCommissionValueService;
+    private final KeysetPagination keysetPagination;
 
     @Operation(summary = "Get turnover commission value by id")
     @ApiResponse(responseCode = "200", content = @Content(
@@ -57,8 +60,10 @@ public class TurnoverCommissionValueController {
             schema = @Schema(implementation = TurnoverCommissionValue.class)))
     )
     @GetMapping
-    public ResponseEntity<List<TurnoverCommissionValue>> getTurnoverCommissionValues() {
-        return ResponseEntity.ok().body(turnoverCommissionValueService.getTurnoverCommissionValues());
+    public ResponseEntity<List<TurnoverCommissionValue>> getTurnoverCommissionValues(
+            @RequestParam(required = false) Long afterId, @RequestParam(required = false) Integer pageSize) {
+        return keysetPagination.toResponseEntity(turnoverCommissionValueService.getTurnoverCommissionValues(
+                afterId, pageSize), pageSize, TurnoverCommissionValue::getId);
     }
 
     @Operation(summary = "Create new turnover commission value")
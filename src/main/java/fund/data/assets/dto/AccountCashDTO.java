@@ -34,6 +34,9 @@ public class AccountCashDTO {
     @NotNull
     private Long assetsOwnerID;
 
+    /**
+     * Пополнение (положительное значение) или списание (отрицательное) в минимальных единицах валюты.
+     */
     @NotNull
-    private Float amount;
+    private Long amount;
 }
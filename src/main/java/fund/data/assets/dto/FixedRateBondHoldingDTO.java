@@ -0,0 +1,46 @@
+package fund.data.assets.dto;
+
+import fund.data.assets.utils.enums.AssetCurrency;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO строки выгрузки облигаций с фиксированным купоном вместе с их собственником и счётом.
+ * Заполняется прямо в запросе к БД (select new ...), потому сущности при выгрузке не создаются.
+ * Источник данных - {@link fund.data.assets.model.asset.exchange.FixedRateBond}.
+ * Сервис - {@link fund.data.assets.service.impl.FixedRateBondServiceImpl}.
+ * Денежные суммы - в минимальных единицах валюты, процентные значения - доли с фиксированной точкой, см.
+ * {@link fund.data.assets.utils.money.MoneyMath}.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FixedRateBondHoldingDTO {
+    private Long bondId;
+    private String iSIN;
+    private String assetTitle;
+    private String assetIssuerTitle;
+    private AssetCurrency assetCurrency;
+    private Integer assetCount;
+    private LocalDate lastAssetBuyDate;
+    private Long bondParValue;
+    private Long purchaseBondParValuePercent;
+    private Long bondAccruedInterest;
+    private Long bondCouponValue;
+    private LocalDate bondMaturityDate;
+    private Long totalAssetPurchasePriceWithCommission;
+    private Float simpleYieldToMaturity;
+    private Float markDementevYieldIndicator;
+    private Long assetsOwnerId;
+    private String assetsOwnerName;
+    private String assetsOwnerSurname;
+    private Long accountId;
+    private String organisationWhereAccountOpened;
+    private String accountNumber;
+}
@@ -2,6 +2,7 @@ package fund.data.assets.dto.owner;
 
 import fund.data.assets.model.owner.RussianAssetsOwner;
 import fund.data.assets.utils.enums.RussianSexEnum;
+import fund.data.assets.validation.group.DatabaseUniquenessChecks;
 import fund.data.assets.validation.annotation.UniqueEncryptedEmail;
 import fund.data.assets.validation.annotation.UniqueEncryptedMobilePhone;
 
@@ -40,7 +41,7 @@ public class NewRussianAssetsOwnerDTO {
      * Почты может и не быть, потому не ставлю ограничение в виде @NotBlank.
      */
     @Email(regexp = "^[a-zA-Z0-9_!#$%&’*+/=?`{|}~^.-]+@[a-zA-Z0-9.-]+$")
-    @UniqueEncryptedEmail
+    @UniqueEncryptedEmail(groups = DatabaseUniquenessChecks.class)
     private String email;
 
     @NotBlank
@@ -54,7 +55,7 @@ public class NewRussianAssetsOwnerDTO {
      */
     @NotNull
     @Pattern(regexp = "^9[0-9]{9}$")
-    @UniqueEncryptedMobilePhone
+    @UniqueEncryptedMobilePhone(groups = DatabaseUniquenessChecks.class)
     private String mobilePhoneNumber;
 
     /**
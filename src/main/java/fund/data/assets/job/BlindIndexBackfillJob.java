@@ -0,0 +1,84 @@
+package fund.data.assets.job;
+
+import fund.data.assets.model.owner.RussianAssetsOwner;
+import fund.data.assets.repository.RussianAssetsOwnerRepository;
+import fund.data.assets.utils.BlindIndexCalculator;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Разовая задача заполнения слепых индексов email, номера мобильного телефона и паспорта у собственников активов,
+ * добавленных в систему до появления этих индексов. Запускается при старте приложения, только если
+ * crypto.blind-index-backfill.enabled = true. Собственники обрабатываются порциями, каждая порция - в своей
+ * транзакции, потому прерванный запуск можно просто повторить.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "crypto.blind-index-backfill.enabled", havingValue = "true")
+public class BlindIndexBackfillJob implements ApplicationRunner {
+    private final RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    private final BlindIndexCalculator blindIndexCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BlindIndexBackfillJob(RussianAssetsOwnerRepository russianAssetsOwnerRepository,
+                                 BlindIndexCalculator blindIndexCalculator,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${crypto.blind-index-backfill.chunk-size:500}") int chunkSize) {
+        this.russianAssetsOwnerRepository = russianAssetsOwnerRepository;
+        this.blindIndexCalculator = blindIndexCalculator;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lastProcessedId = 0L;
+        Long chunkLastId;
+
+        while ((chunkLastId = backfillChunk(lastProcessedId)) != null) {
+            lastProcessedId = chunkLastId;
+        }
+        log.info("Blind indexes backfill finished, last processed owner id - {}", lastProcessedId);
+    }
+
+    /**
+     * Заполняет слепые индексы для одной порции собственников.
+     * @param afterId id, после которого начинается порция.
+     * @return id последнего собственника в порции, либо null, если обрабатывать больше нечего.
+     * @since 0.0.1-alpha
+     */
+    private Long backfillChunk(long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<RussianAssetsOwner> ownersToBackfill = russianAssetsOwnerRepository.findWithoutBlindIndexes(
+                    afterId, PageRequest.of(0, chunkSize));
+
+            if (ownersToBackfill.isEmpty()) {
+                return null;
+            }
+            for (RussianAssetsOwner owner : ownersToBackfill) {
+                owner.setEmailBlindIndex(blindIndexCalculator.calculateEmailBlindIndex(owner.getEmail()));
+                owner.setMobilePhoneBlindIndex(blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                        owner.getMobilePhoneNumber()));
+                owner.setPassportFingerprint(blindIndexCalculator.calculatePassportFingerprint(
+                        owner.getPassportSeries(), owner.getPassportNumber(), owner.getPlaceOfBirth(),
+                        owner.getPlaceOfPassportGiven(), owner.getIssueDate(), owner.getIssuerOrganisationCode()));
+            }
+            russianAssetsOwnerRepository.saveAll(ownersToBackfill);
+
+            return ownersToBackfill.get(ownersToBackfill.size() - 1).getId();
+        });
+    }
+}
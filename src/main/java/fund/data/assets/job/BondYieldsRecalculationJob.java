@@ -0,0 +1,145 @@
+package fund.data.assets.job;
+
+import fund.data.assets.model.asset.exchange.FixedRateBond;
+import fund.data.assets.repository.FixedRateBondRepository;
+import fund.data.assets.utils.pricing.BondPricingEngine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Ежедневный пересчёт простой доходности к погашению и показателя реальной доходности всех непогашенных облигаций
+ * с фиксированным купоном. Обе доходности зависят от количества дней до погашения, потому без пересчёта
+ * устаревают каждый день. Отключается через bond-yields-recalculation.enabled = false.
+ * Облигации обрабатываются порциями по chunk-size: порции одной "волны" идут параллельно в ForkJoinPool, каждая -
+ * в своей транзакции, а изменения пишутся пакетными UPDATE (hibernate.jdbc.batch_size). Ошибка в порции не
+ * останавливает пересчёт остальных - такие облигации будут пересчитаны при следующем запуске.
+ * Ход пересчёта публикуется в Micrometer: bond.yields.recalculation.processed, bond.yields.recalculation.failed
+ * и bond.yields.recalculation.duration.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "bond-yields-recalculation.enabled", havingValue = "true", matchIfMissing = true)
+public class BondYieldsRecalculationJob {
+    private final FixedRateBondRepository fixedRateBondRepository;
+    private final BondPricingEngine bondPricingEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Counter processedBondsCounter;
+    private final Counter failedBondsCounter;
+    private final Timer recalculationTimer;
+
+    public BondYieldsRecalculationJob(FixedRateBondRepository fixedRateBondRepository,
+                                      BondPricingEngine bondPricingEngine,
+                                      TransactionTemplate transactionTemplate,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${bond-yields-recalculation.chunk-size:500}") int chunkSize,
+                                      @Value("${bond-yields-recalculation.parallelism:0}") int parallelism) {
+        this.fixedRateBondRepository = fixedRateBondRepository;
+        this.bondPricingEngine = bondPricingEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.processedBondsCounter = meterRegistry.counter("bond.yields.recalculation.processed");
+        this.failedBondsCounter = meterRegistry.counter("bond.yields.recalculation.failed");
+        this.recalculationTimer = meterRegistry.timer("bond.yields.recalculation.duration");
+    }
+
+    @Scheduled(cron = "${bond-yields-recalculation.cron:0 0 1 * * *}")
+    public void recalculateYields() {
+        recalculationTimer.record(() -> recalculateYields(LocalDate.now()));
+    }
+
+    /**
+     * Пересчитывает доходности всех непогашенных облигаций на дату.
+     * @param valuationDate Дата, на которую пересчитываются доходности.
+     * @since 0.0.1-alpha
+     */
+    public void recalculateYields(LocalDate valuationDate) {
+        ForkJoinPool recalculationPool = new ForkJoinPool(parallelism);
+        long lastProcessedId = 0L;
+        long processedBondsCount = 0L;
+
+        try {
+            List<List<Long>> chunksWave;
+
+            while (!(chunksWave = findNextChunksWave(lastProcessedId, valuationDate)).isEmpty()) {
+                List<CompletableFuture<Void>> chunkRecalculations = new ArrayList<>(chunksWave.size());
+
+                for (List<Long> chunkIds : chunksWave) {
+                    chunkRecalculations.add(CompletableFuture.runAsync(
+                            () -> recalculateChunk(chunkIds, valuationDate), recalculationPool));
+                }
+                CompletableFuture.allOf(chunkRecalculations.toArray(CompletableFuture[]::new)).join();
+
+                List<Long> lastChunkIds = chunksWave.get(chunksWave.size() - 1);
+
+                lastProcessedId = lastChunkIds.get(lastChunkIds.size() - 1);
+                processedBondsCount += chunksWave.stream().mapToInt(List::size).sum();
+                log.info("Bond yields recalculation in progress, bonds handled - {}, last bond id - {}",
+                        processedBondsCount, lastProcessedId);
+            }
+        } finally {
+            recalculationPool.shutdown();
+        }
+        log.info("Bond yields recalculation on {} finished, bonds handled - {}", valuationDate, processedBondsCount);
+    }
+
+    /**
+     * Выбирает id облигаций для следующей "волны" - до parallelism порций, обрабатываемых параллельно.
+     * @param afterId id, после которого начинается волна.
+     * @param valuationDate Дата пересчёта.
+     * @return Порции id облигаций, либо пустой список, если пересчитывать больше нечего.
+     * @since 0.0.1-alpha
+     */
+    private List<List<Long>> findNextChunksWave(long afterId, LocalDate valuationDate) {
+        List<Long> waveIds = fixedRateBondRepository.findNotRedeemedIds(afterId, valuationDate,
+                PageRequest.of(0, chunkSize * parallelism));
+        List<List<Long>> chunksWave = new ArrayList<>();
+
+        for (int chunkStart = 0; chunkStart < waveIds.size(); chunkStart += chunkSize) {
+            chunksWave.add(waveIds.subList(chunkStart, Math.min(chunkStart + chunkSize, waveIds.size())));
+        }
+        return chunksWave;
+    }
+
+    /**
+     * Пересчитывает доходности одной порции облигаций в отдельной транзакции.
+     * @param chunkIds id облигаций порции.
+     * @param valuationDate Дата пересчёта.
+     * @since 0.0.1-alpha
+     */
+    private void recalculateChunk(List<Long> chunkIds, LocalDate valuationDate) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (FixedRateBond bond : fixedRateBondRepository.findAllById(chunkIds)) {
+                    bond.applyYields(bondPricingEngine.calculate(bond.toRepricingInput(valuationDate)));
+                }
+            });
+            processedBondsCounter.increment(chunkIds.size());
+        } catch (RuntimeException exception) {
+            failedBondsCounter.increment(chunkIds.size());
+            log.error("Bond yields recalculation failed for bonds with ids {} - {}", chunkIds.get(0),
+                    chunkIds.get(chunkIds.size() - 1), exception);
+        }
+    }
+}
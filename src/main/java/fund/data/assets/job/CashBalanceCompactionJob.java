@@ -0,0 +1,93 @@
+package fund.data.assets.job;
+
+import fund.data.assets.model.financial_entities.AccountCash;
+import fund.data.assets.repository.AccountCashRepository;
+import fund.data.assets.repository.CashMovementRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Периодическое "сжатие" журнала движений денежных средств: движения каждого остатка {@link AccountCash}
+ * добавляются в его снимок, потому при загрузке остатка суммируются только движения, ещё не вошедшие в снимок.
+ * Сами движения не удаляются и остаются историей операций. Отключается через cash-balance-compaction.enabled = false.
+ * Остатки обрабатываются порциями по chunk-size, каждая порция - в своей транзакции.
+ * Вошедшие в снимок движения помечаются номером снимка, а не отсекаются по id: id из пула последовательности
+ * не упорядочены по времени фиксации, и пополнение с меньшим id может зафиксироваться уже после сдвига.
+ * Строка остатка блокируется на время сдвига, потому снимок не сдвигается одновременно со списанием.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cash-balance-compaction.enabled", havingValue = "true", matchIfMissing = true)
+public class CashBalanceCompactionJob {
+    private final AccountCashRepository accountCashRepository;
+    private final CashMovementRepository cashMovementRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CashBalanceCompactionJob(AccountCashRepository accountCashRepository,
+                                    CashMovementRepository cashMovementRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${cash-balance-compaction.chunk-size:100}") int chunkSize) {
+        this.accountCashRepository = accountCashRepository;
+        this.cashMovementRepository = cashMovementRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${cash-balance-compaction.cron:0 */5 * * * *}")
+    public void compactBalances() {
+        long lastProcessedId = 0L;
+        long compactedBalancesCount = 0L;
+        List<Long> chunkIds;
+
+        while (!(chunkIds = accountCashRepository.findIdsWithNotCompactedMovements(lastProcessedId,
+                PageRequest.of(0, chunkSize))).isEmpty()) {
+            compactChunk(chunkIds);
+            lastProcessedId = chunkIds.get(chunkIds.size() - 1);
+            compactedBalancesCount += chunkIds.size();
+        }
+        log.info("Cash balances compaction finished, balances compacted - {}", compactedBalancesCount);
+    }
+
+    /**
+     * Сдвигает снимки одной порции остатков.
+     * @param chunkIds id остатков порции по возрастанию - в таком порядке берутся блокировки строк.
+     * @since 0.0.1-alpha
+     */
+    private void compactChunk(List<Long> chunkIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Long accountCashId : chunkIds) {
+                accountCashRepository.findWithLockById(accountCashId).ifPresent(this::compactBalance);
+            }
+        });
+    }
+
+    /**
+     * Добавляет в снимок заблокированного остатка его зафиксированные движения. Движения сначала помечаются
+     * номером нового снимка, затем суммируются по этой отметке - так в снимок попадут ровно помеченные движения,
+     * даже если между запросами зафиксируются новые.
+     * @param accountCash Заблокированный остаток.
+     * @since 0.0.1-alpha
+     */
+    private void compactBalance(AccountCash accountCash) {
+        Long snapshotNumber = accountCash.getSnapshotNumber() + 1;
+
+        if (cashMovementRepository.markNotCompactedAsCompacted(accountCash.getId(), snapshotNumber) == 0) {
+            return;
+        }
+        accountCash.setSnapshotAmount(Math.addExact(accountCash.getSnapshotAmount(),
+                cashMovementRepository.sumCompactedAmounts(accountCash.getId(), snapshotNumber)));
+        accountCash.setSnapshotNumber(snapshotNumber);
+    }
+}
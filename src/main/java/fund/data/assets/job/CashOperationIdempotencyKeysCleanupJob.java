@@ -0,0 +1,45 @@
+package fund.data.assets.job;
+
+import fund.data.assets.repository.CashOperationIdempotencyKeyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Ежедневное удаление ключей идемпотентности операций с денежными средствами старше
+ * cash-operation-idempotency.retention-days, чтобы таблица ключей не росла бесконечно. Клиент повторяет запросы
+ * в течение минут, потому срок хранения с запасом перекрывает любые повторы.
+ * Отключается через cash-operation-idempotency.cleanup-enabled = false.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cash-operation-idempotency.cleanup-enabled", havingValue = "true",
+        matchIfMissing = true)
+public class CashOperationIdempotencyKeysCleanupJob {
+    private final CashOperationIdempotencyKeyRepository cashOperationIdempotencyKeyRepository;
+    private final Duration retention;
+
+    public CashOperationIdempotencyKeysCleanupJob(
+            CashOperationIdempotencyKeyRepository cashOperationIdempotencyKeyRepository,
+            @Value("${cash-operation-idempotency.retention-days:7}") int retentionDays) {
+        this.cashOperationIdempotencyKeyRepository = cashOperationIdempotencyKeyRepository;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(cron = "${cash-operation-idempotency.cleanup-cron:0 30 1 * * *}")
+    public void deleteExpiredKeys() {
+        int deletedKeysCount = cashOperationIdempotencyKeyRepository.deleteCreatedBefore(
+                Instant.now().minus(retention));
+
+        log.info("Cash operation idempotency keys cleanup finished, keys deleted - {}", deletedKeysCount);
+    }
+}
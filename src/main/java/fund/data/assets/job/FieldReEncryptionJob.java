@@ -0,0 +1,91 @@
+package fund.data.assets.job;
+
+import fund.data.assets.model.owner.RussianAssetsOwner;
+import fund.data.assets.repository.RussianAssetsOwnerRepository;
+import fund.data.assets.utils.crypto.AesGcmStringEncryptor;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.jasypt.encryption.StringEncryptor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Разовая задача перешифрования в AES-GCM полей собственников активов, зашифрованных прежним PBE-шифратором.
+ * {@link AesGcmStringEncryptor} читает такие значения, но сами они перешифровываются только при изменении поля,
+ * потому без этой задачи неизменяемые данные навсегда остаются в PBE. Запускается при старте приложения, только если
+ * crypto.field-reencryption.enabled = true, и ничего не делает, если движок шифрования - не aes-gcm.
+ * Собственники обрабатываются порциями, каждая порция - в своей транзакции, потому прерванный запуск можно просто
+ * повторить. Собственник, изменённый во время перешифрования, пропускается: при изменении его поля уже
+ * записаны текущим шифратором.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "crypto.field-reencryption.enabled", havingValue = "true")
+public class FieldReEncryptionJob implements ApplicationRunner {
+    private final RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    private final StringEncryptor encryptor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public FieldReEncryptionJob(RussianAssetsOwnerRepository russianAssetsOwnerRepository,
+                                StringEncryptor fieldStringEncryptor,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${crypto.field-reencryption.chunk-size:500}") int chunkSize) {
+        this.russianAssetsOwnerRepository = russianAssetsOwnerRepository;
+        this.encryptor = fieldStringEncryptor;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!(encryptor instanceof AesGcmStringEncryptor)) {
+            log.warn("Field re-encryption skipped, crypto.field-encryption.engine isn't aes-gcm");
+            return;
+        }
+
+        long lastProcessedId = 0L;
+        Long chunkLastId;
+
+        while ((chunkLastId = reEncryptChunk(lastProcessedId)) != null) {
+            lastProcessedId = chunkLastId;
+        }
+        log.info("Field re-encryption finished, last processed owner id - {}", lastProcessedId);
+    }
+
+    /**
+     * Перешифровывает поля одной порции собственников.
+     * @param afterId id, после которого начинается порция.
+     * @return id последнего собственника в порции, либо null, если обрабатывать больше нечего.
+     * @since 0.0.1-alpha
+     */
+    private Long reEncryptChunk(long afterId) {
+        return transactionTemplate.execute(status -> {
+            List<Long> ownerIds = russianAssetsOwnerRepository.findIdsWithLegacyEncryptedFields(afterId, chunkSize);
+
+            if (ownerIds.isEmpty()) {
+                return null;
+            }
+            for (RussianAssetsOwner owner : russianAssetsOwnerRepository.findAllById(ownerIds)) {
+                if (russianAssetsOwnerRepository.updateEncryptedEmail(owner.getId(), owner.getVersion(),
+                        encryptor.encrypt(owner.getEmail())) == 0) {
+                    continue;
+                }
+                russianAssetsOwnerRepository.updateEncryptedPersonalData(owner.getId(),
+                        encryptor.encrypt(owner.getMobilePhoneNumber()), encryptor.encrypt(owner.getPassportSeries()),
+                        encryptor.encrypt(owner.getPassportNumber()));
+            }
+            return ownerIds.get(ownerIds.size() - 1);
+        });
+    }
+}
@@ -8,6 +8,7 @@ import fund.data.assets.utils.enums.AssetCurrency;
 import fund.data.assets.utils.enums.CommissionSystem;
 import fund.data.assets.utils.enums.TaxSystem;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
@@ -41,6 +42,7 @@ public abstract class ExchangeAsset extends Asset {
     @NotNull
     @Size(min = 12, max = 12)
     @Pattern(regexp = "^[A-Z]{2}[A-Z0-9]{9}[0-9]$")
+    @Column(name = "isin", length = 12)
     private String iSIN;
 
     /**
@@ -72,7 +74,6 @@ public abstract class ExchangeAsset extends Asset {
         this.iSIN = iSIN;
         this.assetIssuerTitle = assetIssuerTitle;
         this.lastAssetBuyDate = lastAssetBuyDate;
-        this.assetCommissionSystem = (CommissionSystem) AutoSelector.selectAssetOperationsCostSystem(assetCurrency,
-                assetTypeName, AutoSelector.COMMISSION_SYSTEM_CHOOSE);
+        this.assetCommissionSystem = AutoSelector.selectCommissionSystem(assetCurrency, assetTypeName);
     }
 }
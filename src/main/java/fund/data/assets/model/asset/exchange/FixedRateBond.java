@@ -1,16 +1,19 @@
 package fund.data.assets.model.asset.exchange;
 
-import fund.data.assets.exception.UnrealAddingAssetsParameterException;
 import fund.data.assets.model.owner.AssetsOwner;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.utils.AutoSelector;
-import fund.data.assets.utils.CommissionCalculator;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsListener;
 import fund.data.assets.utils.enums.AssetCurrency;
-import fund.data.assets.utils.FinancialAndAnotherConstants;
 import fund.data.assets.utils.enums.CommissionSystem;
 import fund.data.assets.utils.enums.TaxSystem;
+import fund.data.assets.utils.money.MoneyMath;
+import fund.data.assets.utils.pricing.BondPricingEngine;
+import fund.data.assets.utils.pricing.BondPricingInput;
+import fund.data.assets.utils.pricing.BondPricingResult;
 
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
@@ -21,49 +24,48 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
 
 /**
  * Облигация с фиксированным купоном.
  * Класс - наследник абстрактного ExchangeAsset.
  * Один из вариантов финализации сути Asset.
+ * Денежные суммы хранятся в минимальных единицах валюты, процентные значения - как доли с фиксированной точкой,
+ * см. {@link MoneyMath}.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
 @Entity
+@EntityListeners(FixedRateBondAnalyticsListener.class)
 @NoArgsConstructor
 @Getter
 @Setter
 public class FixedRateBond extends ExchangeAsset {
-    public static final String WRONG_DATE_BOND_ADDING_WARNING = "This is error - don't add into system already" +
-            " redeemed bond";
-
     /**
-     * Номинальная стоимость облигации, определённая эмитентом. Обычно в РФ равна 1000 рублей.
+     * Номинальная стоимость облигации, определённая эмитентом. Обычно в РФ равна 1000 рублей, т.е. 100000 копеек.
      */
     @NotNull
     @Positive
-    private Integer bondParValue;
+    private Long bondParValue;
 
     /**
      * "Чистая" цена облигации при покупке. Представляет собой формируемую на рынке цену, являющуюся % от номинала.
      */
     @NotNull
     @Positive
-    private Float purchaseBondParValuePercent;
+    private Long purchaseBondParValuePercent;
 
     /**
      * НКД облигации. НКД - накопленный купонный доход.
      */
     @NotNull
     @PositiveOrZero
-    private Float bondAccruedInterest;
+    private Long bondAccruedInterest;
 
     /**
      * Совокупная комиссия при покупке облигации.
      */
     @PositiveOrZero
-    private Float totalCommissionForPurchase;
+    private Long totalCommissionForPurchase;
 
     /**
      * Величина в валюте. Сколько надо конкретно заплатить за облигации в реальности - т.е. с учётом
@@ -71,14 +73,14 @@ public class FixedRateBond extends ExchangeAsset {
      */
     @NotNull
     @PositiveOrZero
-    private Float totalAssetPurchasePriceWithCommission;
+    private Long totalAssetPurchasePriceWithCommission;
 
     /**
      * Размер купонной выплаты в валюте.
      */
     @NotNull
     @PositiveOrZero
-    private Float bondCouponValue;
+    private Long bondCouponValue;
 
     /**
      * Ожидаемое количество купонных выплат на момент покупки до даты погашения облигации.
@@ -108,106 +110,111 @@ public class FixedRateBond extends ExchangeAsset {
      */
     private Float markDementevYieldIndicator;
 
+    /**
+     * Конструктор не рассчитывает показатели облигации - после создания их нужно рассчитать {@link BondPricingEngine}
+     * по {@link #toPurchasePricingInput(Long)} и перенести в облигацию через {@link #applyPricing(BondPricingResult)}.
+     * @throws fund.data.assets.exception.UnrealAddingAssetsParameterException Если в систему вводится уже
+     * погашенный бонд.
+     */
     public FixedRateBond(AssetCurrency assetCurrency, String assetTitle, Integer assetCount,
                          String iSIN, String assetIssuerTitle, LocalDate lastAssetBuyDate,
-                         Integer bondParValue,
-                         Float purchaseBondParValuePercent,
-                         Float bondAccruedInterest,
+                         Long bondParValue,
+                         Long purchaseBondParValuePercent,
+                         Long bondAccruedInterest,
                          Account account,
                          AssetsOwner assetsOwner,
-                         Float bondCouponValue,
+                         Long bondCouponValue,
                          Integer expectedBondCouponPaymentsCount,
                          LocalDate bondMaturityDate) {
         super(assetCurrency, FixedRateBond.class.getTypeName(), assetTitle, assetCount,
-                (TaxSystem) AutoSelector.selectAssetOperationsCostSystem(assetCurrency,
-                        FixedRateBond.class.getTypeName(), AutoSelector.TAX_SYSTEM_CHOOSE), account, assetsOwner,
+                AutoSelector.selectTaxSystem(assetCurrency, FixedRateBond.class.getTypeName()), account, assetsOwner,
                 iSIN, assetIssuerTitle, lastAssetBuyDate);
         this.bondParValue = bondParValue;
         this.purchaseBondParValuePercent = purchaseBondParValuePercent;
         this.bondAccruedInterest = bondAccruedInterest;
-
-        if (getAssetCommissionSystem() != null) {
-            CommissionCalculator commissionCalculator = new CommissionCalculator();
-
-            this.totalCommissionForPurchase = commissionCalculator.calculateTotalCommissionForPurchase(
-                    getAssetCommissionSystem(),
-                    account,
-                    FixedRateBond.class.getTypeName(),
-                    getAssetCount(),
-                    purchaseBondParValuePercent * bondParValue + bondAccruedInterest);
-        } else {
-            this.totalCommissionForPurchase = 0.00F;
-        }
-        this.totalAssetPurchasePriceWithCommission = calculateTotalAssetPurchasePriceWithCommission();
         this.bondCouponValue = bondCouponValue;
         this.expectedBondCouponPaymentsCount = expectedBondCouponPaymentsCount;
         this.bondMaturityDate = bondMaturityDate;
-        this.simpleYieldToMaturity = calculateSimpleYieldToMaturity();
-
-        if (getAssetCurrency().equals(AssetCurrency.RUSRUB)
-                && getAssetTaxSystem().equals(TaxSystem.EQUAL_COUPON_DIVIDEND_TRADE)
-                && getAssetCommissionSystem().equals(CommissionSystem.TURNOVER)) {
-            this.markDementevYieldIndicator = calculateMarkDementevYieldIndicator();
-        }
     }
 
     /**
-     * Умножает количество облигаций на их цену в валюте с учётом НКД, после чего суммирует с комиссией за покупку
-     * данных облигаций при данных параметрах.
-     * @return Сколько надо конкретно заплатить за облигации в реальности в валюте.
+     * Собирает исходные данные для расчёта показателей облигации на дату покупки.
+     * @param turnoverCommissionPercentValue Размер процента комиссии с оборота для типа актива на счёте, см.
+     * {@link fund.data.assets.utils.CommissionCalculator}. Не учитывается, если у актива нет системы комиссии.
+     * @return Исходные данные для расчёта показателей облигации.
      * @since 0.0.1-alpha
      */
-    private Float calculateTotalAssetPurchasePriceWithCommission() {
-        return getAssetCount() * (purchaseBondParValuePercent * bondParValue + bondAccruedInterest)
-                + totalCommissionForPurchase;
+    public BondPricingInput toPurchasePricingInput(Long turnoverCommissionPercentValue) {
+        long commissionPercentValue = getAssetCommissionSystem() != null ? turnoverCommissionPercentValue : 0L;
+
+        return toPricingInput(commissionPercentValue, getLastAssetBuyDate());
     }
 
     /**
-     * Возвращает простую доходность к погашению.
-     * Источник формулы - https://bcs-express.ru/novosti-i-analitika/dokhodnost-obligatsii-na-vse-sluchai-zhizni
-     * @return Простая доходность к погашению в % годовых, выраженная в десятичной форме. К примеру, 8% годовых = 0.08.
+     * Собирает исходные данные облигации для {@link BondPricingEngine}.
+     * @param commissionPercentValue Размер процента комиссии с оборота, 0 - если комиссия не взимается.
+     * @param valuationDate Дата, на которую рассчитываются доходности.
+     * @return Исходные данные для расчёта показателей облигации.
      * @since 0.0.1-alpha
      */
-    private Float calculateSimpleYieldToMaturity() {
-        float marketClearPriceInCurrency = purchaseBondParValuePercent * bondParValue;
-        float allExpectedCouponPaymentsSum = bondCouponValue * expectedBondCouponPaymentsCount;
-        int daysBeforeMaturity = calculateDaysBeforeMaturity();
+    public BondPricingInput toPricingInput(long commissionPercentValue, LocalDate valuationDate) {
+        return new BondPricingInput(getAssetCount(), bondParValue, purchaseBondParValuePercent,
+                bondAccruedInterest, commissionPercentValue, bondCouponValue, expectedBondCouponPaymentsCount,
+                bondMaturityDate.toEpochDay(), valuationDate.toEpochDay(), isMarkDementevYieldIndicatorApplicable());
+    }
 
-        return  ((bondParValue - marketClearPriceInCurrency + (allExpectedCouponPaymentsSum - bondAccruedInterest))
-                / marketClearPriceInCurrency) * (FinancialAndAnotherConstants.YEAR_DAYS_COUNT / daysBeforeMaturity);
+    /**
+     * Собирает исходные данные для пересчёта доходностей облигации на другую дату. Ставка комиссии восстанавливается
+     * из комиссии, уплаченной при покупке, чтобы изменение ставок на счёте не влияло на уже купленные облигации.
+     * Если комиссия при покупке не сохранена, облигация пересчитывается без комиссии.
+     * @param valuationDate Дата, на которую пересчитываются доходности.
+     * @return Исходные данные для расчёта показателей облигации.
+     * @since 0.0.1-alpha
+     */
+    public BondPricingInput toRepricingInput(LocalDate valuationDate) {
+        long commissionForPurchase = totalCommissionForPurchase != null ? totalCommissionForPurchase : 0L;
+        long purchaseTurnover = totalAssetPurchasePriceWithCommission - commissionForPurchase;
+        long commissionPercentValue = 0L;
+
+        if (purchaseTurnover > 0) {
+            commissionPercentValue = MoneyMath.divideHalfEven(
+                    Math.multiplyExact(commissionForPurchase, MoneyMath.PERCENT_SCALE), purchaseTurnover);
+        }
+        return toPricingInput(commissionPercentValue, valuationDate);
     }
 
     /**
-     * Возвращает "неакадемический параметр" реальной доходности % в год - основной параметр Фонда
-     * для отбора облигаций с фиксированным купоном.
-     * @return Показатель реальной доходности по облигации в % годовых.
+     * Переносит в облигацию показатели, рассчитанные {@link BondPricingEngine}.
+     * @param pricing Рассчитанные показатели облигации.
      * @since 0.0.1-alpha
      */
-    private Float calculateMarkDementevYieldIndicator() {
-        float expectedBondCouponPaymentsSum = bondCouponValue * expectedBondCouponPaymentsCount;
-        float incomeTaxCorrection = FinancialAndAnotherConstants.RUSSIAN_TAX_SYSTEM_CORRECTION_VALUE;
-        float oneBondValueSummedWithHisCommission = (totalAssetPurchasePriceWithCommission / getAssetCount());
-        float taxValueOfMaturityIncome = 0.00F;
-        int daysBeforeMaturity = calculateDaysBeforeMaturity();
+    public void applyPricing(BondPricingResult pricing) {
+        this.totalCommissionForPurchase = pricing.totalCommissionForPurchase();
+        this.totalAssetPurchasePriceWithCommission = pricing.totalAssetPurchasePriceWithCommission();
+        this.simpleYieldToMaturity = pricing.simpleYieldToMaturity();
+        this.markDementevYieldIndicator = pricing.markDementevYieldIndicator();
+    }
 
-        if (bondParValue > oneBondValueSummedWithHisCommission) {
-            taxValueOfMaturityIncome = incomeTaxCorrection * (bondParValue - oneBondValueSummedWithHisCommission);
-        }
-        return ((expectedBondCouponPaymentsSum * incomeTaxCorrection + bondParValue + taxValueOfMaturityIncome)
-                / oneBondValueSummedWithHisCommission - 1)
-                / (daysBeforeMaturity / FinancialAndAnotherConstants.YEAR_DAYS_COUNT);
+    /**
+     * Переносит в облигацию только доходности, рассчитанные {@link BondPricingEngine} при пересчёте на другую дату.
+     * Комиссия и итоговая цена покупки - свершившийся факт, потому не меняются.
+     * @param pricing Рассчитанные показатели облигации.
+     * @since 0.0.1-alpha
+     */
+    public void applyYields(BondPricingResult pricing) {
+        this.simpleYieldToMaturity = pricing.simpleYieldToMaturity();
+        this.markDementevYieldIndicator = pricing.markDementevYieldIndicator();
     }
 
     /**
-     * Позволяет подсчитать на момент покупки, сколько облигация будет существовать, если держать её до погашения.
-     * @return Количество дней со дня покупки облигации до дня погашения.
-     * @throws UnrealAddingAssetsParameterException Если в систему вводится уже погашенный бонд.
+     * Показатель реальной доходности рассчитывается только для рублёвых облигаций с комиссией с оборота и
+     * налогообложением по купонам, дивидендам и сделкам.
+     * @return true, если показатель применим к облигации.
      * @since 0.0.1-alpha
      */
-    private int calculateDaysBeforeMaturity() {
-        if (ChronoUnit.DAYS.between(getLastAssetBuyDate(), bondMaturityDate) < 0) {
-            throw new UnrealAddingAssetsParameterException(WRONG_DATE_BOND_ADDING_WARNING);
-        }
-        return (int) ChronoUnit.DAYS.between(getLastAssetBuyDate(), bondMaturityDate);
+    private boolean isMarkDementevYieldIndicatorApplicable() {
+        return getAssetCurrency() == AssetCurrency.RUSRUB
+                && getAssetTaxSystem() == TaxSystem.EQUAL_COUPON_DIVIDEND_TRADE
+                && getAssetCommissionSystem() == CommissionSystem.TURNOVER;
     }
 }
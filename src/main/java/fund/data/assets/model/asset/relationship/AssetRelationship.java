@@ -1,12 +1,17 @@
 package fund.data.assets.model.asset.relationship;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import fund.data.assets.model.asset.Asset;
 import fund.data.assets.model.owner.AssetsOwner;
 
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Id;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.FetchType;
@@ -25,7 +30,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 /**
  * Сущность - связующее между активом и собственником актива.
@@ -37,23 +42,29 @@ import static jakarta.persistence.GenerationType.IDENTITY;
  */
 @Entity
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
-@Table(name = "asset_ownerships_with_account_placement")
+@Table(name = "asset_ownerships_with_account_placement", indexes = {
+        @Index(name = "asset_ownerships_with_account_placement_assets_owner_id_idx", columnList = "assets_owner_id"),
+        @Index(name = "asset_ownerships_with_account_placement_account_id_idx", columnList = "account_id")})
 @NoArgsConstructor
 @Getter
 @Setter
 public abstract class AssetRelationship {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "asset_ownerships_with_account_placement_seq")
+    @SequenceGenerator(name = "asset_ownerships_with_account_placement_seq",
+            sequenceName = "asset_ownerships_with_account_placement_seq", allocationSize = 50)
     private Long id;
 
     @NotNull
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "asset_id", nullable = false)
+    @JsonIgnoreProperties({"assetRelationship", "hibernateLazyInitializer", "handler"})
     private Asset asset;
 
     @NotNull
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assets_owner_id", nullable = false)
+    @JsonIgnore
     private AssetsOwner assetsOwner;
 
     @CreationTimestamp
@@ -2,10 +2,15 @@ package fund.data.assets.model.financial_entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import fund.data.assets.config.CacheConfig;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Id;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.Column;
 
 import jakarta.validation.constraints.NotBlank;
@@ -16,21 +21,27 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 import java.time.LocalDate;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 /**
- * Банковский счёт.
+ * Банковский счёт. Счета меняются редко, а читаются почти при каждой записи, потому хранятся в кэше второго
+ * уровня, см. {@link CacheConfig}.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
 @Entity
-@Table(name = "accounts")
+@Table(name = "accounts", indexes = {@Index(name = "accounts_organisation_where_account_opened_idx",
+        columnList = "organisation_where_account_opened")})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.ACCOUNTS_REGION)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @AllArgsConstructor
 @NoArgsConstructor
@@ -38,7 +49,8 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 @Setter
 public class Account {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "accounts_seq")
+    @SequenceGenerator(name = "accounts_seq", sequenceName = "accounts_seq", allocationSize = 50)
     private Long id;
 
     /**
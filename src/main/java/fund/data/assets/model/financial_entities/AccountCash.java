@@ -1,28 +1,35 @@
 package fund.data.assets.model.financial_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import fund.data.assets.model.owner.AssetsOwner;
 import fund.data.assets.utils.enums.AssetCurrency;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.Index;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Id;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Version;
 
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Formula;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -31,18 +38,25 @@ import java.time.Instant;
 
 /**
  * Размер денежных средств определённого собственника на счёте в определённой валюте.
+ * Сами пополнения и списания не изменяют строку остатка, а дописываются в журнал {@link CashMovement}. Строка
+ * хранит "снимок" - сумму движений, уже вошедших в него, который периодически дополняет
+ * {@link fund.data.assets.job.CashBalanceCompactionJob}. Текущий остаток amount - снимок плюс движения, ещё
+ * не вошедшие в снимок.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
 @Entity
 @Table(name = "free_owners_cash_on_accounts",
-        uniqueConstraints = {@UniqueConstraint(columnNames = {"account_id", "asset_currency", "assets_owner_id"})})
+        uniqueConstraints = {@UniqueConstraint(columnNames = {"account_id", "asset_currency", "assets_owner_id"})},
+        indexes = {@Index(name = "free_owners_cash_on_accounts_assets_owner_id_idx", columnList = "assets_owner_id")})
 @NoArgsConstructor
 @Getter
 @Setter
 public class AccountCash {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "free_owners_cash_on_accounts_seq")
+    @SequenceGenerator(name = "free_owners_cash_on_accounts_seq", sequenceName = "free_owners_cash_on_accounts_seq",
+            allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -61,9 +75,36 @@ public class AccountCash {
     @OnDelete(action = OnDeleteAction.CASCADE)
     private AssetsOwner assetsOwner;
 
+    /**
+     * Текущий остаток в минимальных единицах валюты (для рубля - в копейках), см.
+     * {@link fund.data.assets.utils.money.MoneyMath}. Рассчитывается БД при загрузке сущности.
+     */
+    @Setter(AccessLevel.NONE)
+    @Formula("snapshot_amount + coalesce((select sum(m.amount) from cash_movements m"
+            + " where m.account_cash_id = id and m.compacted_into_snapshot is null), 0)")
+    private Long amount;
+
+    /**
+     * Остаток на момент снимка - сумма движений, вошедших в снимки с номером не больше snapshotNumber.
+     */
+    @JsonIgnore
     @NotNull
     @PositiveOrZero
-    private Float amount;
+    private Long snapshotAmount;
+
+    /**
+     * Номер последнего снимка, им помечаются вошедшие в снимок движения. 0 - снимка ещё не было.
+     */
+    @JsonIgnore
+    @NotNull
+    private Long snapshotNumber;
+
+    /**
+     * Версия строки для оптимистической блокировки, см. {@link fund.data.assets.utils.OptimisticLockTemplate}.
+     */
+    @JsonIgnore
+    @Version
+    private Long version;
 
     @CreationTimestamp
     private Instant createdAt;
@@ -71,10 +112,31 @@ public class AccountCash {
     @UpdateTimestamp
     private Instant updatedAt;
 
-    public AccountCash(Account account, AssetCurrency assetCurrency, AssetsOwner assetsOwner, Float amount) {
+    public AccountCash(Account account, AssetCurrency assetCurrency, AssetsOwner assetsOwner) {
         this.account = account;
         this.assetCurrency = assetCurrency;
         this.assetsOwner = assetsOwner;
-        this.amount = amount;
+        this.snapshotAmount = 0L;
+        this.snapshotNumber = 0L;
+    }
+
+    /**
+     * Создаёт несохраняемую копию остатка с другой суммой, к примеру, для ответа на повтор операции с ключом
+     * идемпотентности, который должен вернуть остаток на момент исходной операции.
+     * @param amount Сумма копии в минимальных единицах валюты.
+     * @return Копия остатка.
+     * @since 0.0.1-alpha
+     */
+    public AccountCash copyWithAmount(Long amount) {
+        AccountCash accountCashCopy = new AccountCash(account, assetCurrency, assetsOwner);
+
+        accountCashCopy.id = id;
+        accountCashCopy.amount = amount;
+        accountCashCopy.snapshotAmount = snapshotAmount;
+        accountCashCopy.snapshotNumber = snapshotNumber;
+        accountCashCopy.version = version;
+        accountCashCopy.createdAt = createdAt;
+        accountCashCopy.updatedAt = updatedAt;
+        return accountCashCopy;
     }
 }
@@ -0,0 +1,76 @@
+package fund.data.assets.model.financial_entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Index;
+import jakarta.persistence.Id;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.JoinColumn;
+
+import jakarta.validation.constraints.NotNull;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.Instant;
+
+/**
+ * Движение денежных средств - одно пополнение или списание остатка {@link AccountCash}.
+ * Журнал движений только дописывается: строки не удаляются, а из колонок изменяется только отметка о вхождении
+ * в снимок остатка, потому пополнения не конкурируют за блокировку одной строки, а любой остаток можно проверить
+ * по истории движений.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Entity
+@Table(name = "cash_movements",
+        indexes = {@Index(name = "cash_movements_account_cash_id_id_idx", columnList = "account_cash_id, id")})
+@NoArgsConstructor
+@Getter
+public class CashMovement {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cash_movements_seq")
+    @SequenceGenerator(name = "cash_movements_seq", sequenceName = "cash_movements_seq", allocationSize = 50)
+    private Long id;
+
+    @JsonIgnore
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_cash_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private AccountCash accountCash;
+
+    /**
+     * Пополнение (положительное значение) или списание (отрицательное) в минимальных единицах валюты.
+     */
+    @NotNull
+    @Column(updatable = false)
+    private Long amount;
+
+    /**
+     * Номер снимка остатка (AccountCash.snapshotNumber), в который вошло движение, либо null, если движение ещё
+     * не вошло в снимок. Проставляется {@link fund.data.assets.job.CashBalanceCompactionJob}.
+     */
+    @JsonIgnore
+    private Long compactedIntoSnapshot;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private Instant createdAt;
+
+    public CashMovement(AccountCash accountCash, Long amount) {
+        this.accountCash = accountCash;
+        this.amount = amount;
+    }
+}
@@ -0,0 +1,90 @@
+package fund.data.assets.model.financial_entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+
+import jakarta.validation.constraints.NotBlank;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Ключ идемпотентности уже проведённой операции с денежными средствами (заголовок Idempotency-Key).
+ * Сохраняется в одной транзакции с самой операцией, потому повтор запроса с тем же ключом не проводит операцию
+ * второй раз, а получает её исходный результат. Ключ задаёт клиент, потому сущность всегда новая до первой
+ * загрузки из БД (Persistable) - иначе Spring Data выполнил бы merge и мог бы перезаписать чужую запись с тем же
+ * ключом.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Entity
+@Table(name = "cash_operation_idempotency_keys")
+@NoArgsConstructor
+@Getter
+@Setter
+public class CashOperationIdempotencyKey implements Persistable<String> {
+    public static final int MAX_KEY_LENGTH = 255;
+
+    @Id
+    @Column(length = MAX_KEY_LENGTH)
+    private String idempotencyKey;
+
+    /**
+     * Параметры операции, проведённой с этим ключом. Повтор ключа с другими параметрами отклоняется.
+     */
+    @NotBlank
+    private String requestFingerprint;
+
+    /**
+     * id остатка, изменённого операцией. Заполняется в той же транзакции, что и сохраняется ключ.
+     */
+    private Long accountCashId;
+
+    /**
+     * Остаток сразу после операции - его же получает повтор запроса с этим ключом, даже если остаток с тех пор
+     * изменили другие операции.
+     */
+    private Long resultAmount;
+
+    @CreationTimestamp
+    private Instant createdAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public CashOperationIdempotencyKey(String idempotencyKey, String requestFingerprint) {
+        this.idempotencyKey = idempotencyKey;
+        this.requestFingerprint = requestFingerprint;
+    }
+
+    @Override
+    public String getId() {
+        return idempotencyKey;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        persisted = true;
+    }
+}
@@ -1,12 +1,16 @@
 package fund.data.assets.model.financial_entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -21,12 +25,14 @@ import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.Instant;
 
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.SEQUENCE;
 
 /**
  * Размер комиссии с оборота для типа актива на счёте.
  * Наиболее частая практика взимания брокерской комиссии в РФ - это % с оборота
  * по торгам определёнными типами активов на конкретном счёте.
+ * Для расчёта комиссии ставки читаются через кэш
+ * {@link fund.data.assets.config.CacheConfig#TURNOVER_COMMISSION_PERCENT_VALUES_CACHE}.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
@@ -39,7 +45,9 @@ import static jakarta.persistence.GenerationType.IDENTITY;
 @Setter
 public class TurnoverCommissionValue {
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "turnover_commission_percent_values_seq")
+    @SequenceGenerator(name = "turnover_commission_percent_values_seq",
+            sequenceName = "turnover_commission_percent_values_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -57,10 +65,18 @@ public class TurnoverCommissionValue {
     private String assetTypeName;
 
     /**
-     * Размер комиссии - это % с оборота. Потому нужен Float, Double будет занимать лишнее место.
+     * Размер комиссии - это % с оборота. Хранится как доля с фиксированной точкой, см.
+     * {@link fund.data.assets.utils.money.MoneyMath}: 1% = 10 000.
      */
     @NotNull
-    private Float commissionPercentValue;
+    private Long commissionPercentValue;
+
+    /**
+     * Версия строки для оптимистической блокировки, см. {@link fund.data.assets.utils.OptimisticLockTemplate}.
+     */
+    @JsonIgnore
+    @Version
+    private Long version;
 
     @CreationTimestamp
     private Instant createdAt;
@@ -1,9 +1,14 @@
 package fund.data.assets.model.owner;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import fund.data.assets.model.asset.relationship.AssetRelationship;
-import fund.data.assets.utils.converter.StringCryptoConverter;
+import fund.data.assets.utils.UninitializedLazyJsonFilter;
+import fund.data.assets.utils.converter.LazyStringCryptoConverter;
+import fund.data.assets.utils.crypto.LazyDecryptedString;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Inheritance;
@@ -14,14 +19,20 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Convert;
+import jakarta.persistence.Column;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.jasypt.encryption.StringEncryptor;
+
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -44,8 +55,16 @@ import java.util.List;
 @Getter
 @Setter
 public abstract class AssetsOwner {
+    /**
+     * id выдаётся последовательностью, а не IDENTITY - иначе Hibernate вынужден вставлять строки по одной, чтобы
+     * узнать id, и пакетная вставка (hibernate.jdbc.batch_size) при массовом импорте не работает.
+     * allocationSize позволяет получать из последовательности сразу диапазон id одним запросом.
+     * Диапазон раздаётся оптимизатором pooled-lo (hibernate.id.optimizer.pooled.preferred), как и у остальных
+     * сущностей; последовательности создаются миграциями Liquibase.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assets_owner_seq")
+    @SequenceGenerator(name = "assets_owner_seq", sequenceName = "assets_owner_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -59,18 +78,39 @@ public abstract class AssetsOwner {
 
     /**
      * Почты может и не быть, потому не ставлю ограничение в виде @NotBlank.
+     * Расшифровывается только при обращении к getEmail().
      */
-    @Convert(converter = StringCryptoConverter.class)
-    private String email;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Convert(converter = LazyStringCryptoConverter.class)
+    private LazyDecryptedString email;
 
     /**
-     * Обращаясь к AssetsOwner, с вероятностью в 95% нам важны не его иные параметры, а активы на балансе. Информацию
-     * о них можно получить через обращение к сущности AssetRelationship. Потому fetch - это сразу FetchType.EAGER,
-     * а не FetchType.LAZY.
+     * Слепой индекс email - HMAC-хеш открытого значения. Нужен, чтобы проверять уникальность email одним
+     * индексированным запросом, а не расшифровкой email всех собственников. Уникальность также гарантирует БД.
+     */
+    @JsonIgnore
+    @Column(unique = true, length = 64)
+    private String emailBlindIndex;
+
+    /**
+     * Активы на балансе собственника. Связь ленивая, чтобы обычное чтение собственника было одним запросом
+     * независимо от размера портфеля. Собственник вместе с активами загружается отдельным методом репозитория
+     * с @EntityGraph - эндпоинт holdings. Не загруженная связь в JSON не попадает,
+     * см. {@link UninitializedLazyJsonFilter}.
      */
     @NotNull
-    @OneToMany(fetch = FetchType.EAGER, mappedBy = "assetsOwner")
-    private List<AssetRelationship> assetRelationships;
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "assetsOwner")
+    @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = UninitializedLazyJsonFilter.class)
+    @JsonIgnoreProperties({"assetsOwner"})
+    private List<AssetRelationship> assetRelationships = new ArrayList<>();
+
+    /**
+     * Версия строки для оптимистической блокировки, см. {@link fund.data.assets.utils.OptimisticLockTemplate}.
+     */
+    @JsonIgnore
+    @Version
+    private Long version;
 
     @CreationTimestamp
     private Instant createdAt;
@@ -86,7 +126,26 @@ public abstract class AssetsOwner {
         this.name = name;
         this.surname = surname;
         this.birthDate = birthDate;
-        this.email = email;
-        this.assetRelationships = new ArrayList<>();
+        this.email = LazyDecryptedString.ofPlain(email);
+    }
+
+    public String getEmail() {
+        return LazyDecryptedString.valueOf(email);
+    }
+
+    public void setEmail(String email) {
+        this.email = LazyDecryptedString.ofPlain(email);
+    }
+
+    /**
+     * Заранее шифрует чувствительные поля собственника, см. {@link LazyDecryptedString#encryptedWith}.
+     * Наследники дополняют метод своими полями.
+     * @param encryptor Шифратор, которым поля будут записаны в БД.
+     * @since 0.0.1-alpha
+     */
+    public void encryptSensitiveFields(StringEncryptor encryptor) {
+        if (email != null) {
+            email = email.encryptedWith(encryptor);
+        }
     }
 }
@@ -1,22 +1,28 @@
 package fund.data.assets.model.owner;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
-import fund.data.assets.utils.converter.StringCryptoConverter;
+import fund.data.assets.utils.converter.LazyStringCryptoConverter;
+import fund.data.assets.utils.crypto.LazyDecryptedString;
 import fund.data.assets.utils.enums.RussianSexEnum;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Convert;
+import jakarta.persistence.Column;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import org.jasypt.encryption.StringEncryptor;
+
 import org.springframework.context.annotation.Primary;
 
 import java.time.LocalDate;
@@ -24,6 +30,8 @@ import java.time.LocalDate;
 /**
  * Сущность - собственник активов - гражданин РФ. Для идентификации используются данные из паспорта гражданина РФ.
  * Класс - наследник абстрактного AssetsOwner. Используется по дефолту (@Primary).
+ * Зашифрованные поля хранятся как {@link LazyDecryptedString} и расшифровываются только при обращении к их
+ * геттерам, которые, как и сеттеры, работают с обычными строками.
  * @since 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
@@ -45,19 +53,33 @@ public class RussianAssetsOwner extends AssetsOwner {
      * Номер мобильного телефона в формате ХХХ-ХХХ-ХХ-ХХ без +7. +7 добавляет сервис при операциях с полем.
      */
     @NotNull
-    @Convert(converter = StringCryptoConverter.class)
-    private String mobilePhoneNumber;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Convert(converter = LazyStringCryptoConverter.class)
+    private LazyDecryptedString mobilePhoneNumber;
+
+    /**
+     * Слепой индекс нормализованного номера мобильного телефона. Позволяет проверять уникальность номера
+     * одним индексированным запросом вместо расшифровки номеров всех собственников.
+     */
+    @JsonIgnore
+    @Column(unique = true, length = 64)
+    private String mobilePhoneBlindIndex;
 
     /**
      * Можно вводить как с пробелом между 2-й и 3-й цифрами (как напечатано в паспорте), так и подряд все 4 цифры.
      */
     @NotNull
-    @Convert(converter = StringCryptoConverter.class)
-    private String passportSeries;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Convert(converter = LazyStringCryptoConverter.class)
+    private LazyDecryptedString passportSeries;
 
     @NotNull
-    @Convert(converter = StringCryptoConverter.class)
-    private String passportNumber;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @Convert(converter = LazyStringCryptoConverter.class)
+    private LazyDecryptedString passportNumber;
 
     @NotBlank
     private String placeOfBirth;
@@ -71,6 +93,15 @@ public class RussianAssetsOwner extends AssetsOwner {
     @NotNull
     private String issuerOrganisationCode;
 
+    /**
+     * "Отпечаток" паспорта РФ - слепой индекс по серии, номеру, месту рождения, месту и дате выдачи паспорта и коду
+     * выдавшей его организации. Уникальность паспорта проверяется одним индексированным запросом, а одновременное
+     * создание двух собственников с одним паспортом отсекается ограничением уникальности в БД.
+     */
+    @JsonIgnore
+    @Column(unique = true, length = 64)
+    private String passportFingerprint;
+
     public RussianAssetsOwner(String name, String surname, LocalDate birthDate, String email, String patronymic,
                               RussianSexEnum sex, String mobilePhoneNumber, String passportSeries, String passportNumber,
                               String placeOfBirth, String placeOfPassportGiven, LocalDate issueDate,
@@ -79,12 +110,45 @@ public class RussianAssetsOwner extends AssetsOwner {
 
         this.patronymic = patronymic;
         this.sex = sex;
-        this.mobilePhoneNumber = mobilePhoneNumber;
-        this.passportSeries = passportSeries;
-        this.passportNumber = passportNumber;
+        this.mobilePhoneNumber = LazyDecryptedString.ofPlain(mobilePhoneNumber);
+        this.passportSeries = LazyDecryptedString.ofPlain(passportSeries);
+        this.passportNumber = LazyDecryptedString.ofPlain(passportNumber);
         this.placeOfBirth = placeOfBirth;
         this.placeOfPassportGiven = placeOfPassportGiven;
         this.issueDate = issueDate;
         this.issuerOrganisationCode = issuerOrganisationCode;
     }
+
+    public String getMobilePhoneNumber() {
+        return LazyDecryptedString.valueOf(mobilePhoneNumber);
+    }
+
+    public void setMobilePhoneNumber(String mobilePhoneNumber) {
+        this.mobilePhoneNumber = LazyDecryptedString.ofPlain(mobilePhoneNumber);
+    }
+
+    public String getPassportSeries() {
+        return LazyDecryptedString.valueOf(passportSeries);
+    }
+
+    public void setPassportSeries(String passportSeries) {
+        this.passportSeries = LazyDecryptedString.ofPlain(passportSeries);
+    }
+
+    public String getPassportNumber() {
+        return LazyDecryptedString.valueOf(passportNumber);
+    }
+
+    public void setPassportNumber(String passportNumber) {
+        this.passportNumber = LazyDecryptedString.ofPlain(passportNumber);
+    }
+
+    @Override
+    public void encryptSensitiveFields(StringEncryptor encryptor) {
+        super.encryptSensitiveFields(encryptor);
+
+        mobilePhoneNumber = mobilePhoneNumber.encryptedWith(encryptor);
+        passportSeries = passportSeries.encryptedWith(encryptor);
+        passportNumber = passportNumber.encryptedWith(encryptor);
+    }
 }
@@ -5,9 +5,19 @@ import fund.data.assets.model.financial_entities.AccountCash;
 import fund.data.assets.model.owner.AssetsOwner;
 import fund.data.assets.utils.enums.AssetCurrency;
 
+import jakarta.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * DAO для обслуживания денежных средств собственников активов на счетах.
  * Обслуживаемая сущность - {@link AccountCash}.
@@ -16,6 +26,90 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface AccountCashRepository extends JpaRepository<AccountCash, Long> {
+    /**
+     * Страница для keyset-пагинации списка, см. {@link fund.data.assets.utils.KeysetPagination}.
+     * @param id id, после которого начинается страница.
+     * @param pageable размер страницы и сортировка по id.
+     * @return записи с id больше переданного.
+     * @since 0.0.1-alpha
+     */
+    List<AccountCash> findByIdGreaterThan(Long id, Pageable pageable);
+
     AccountCash findByAccountAndAssetCurrencyAndAssetsOwner(Account account, AssetCurrency assetCurrency,
                                                             AssetsOwner assetsOwner);
+
+    /**
+     * @param accountId id счёта.
+     * @param assetCurrency Валюта денежных средств.
+     * @param assetsOwnerId id собственника денежных средств.
+     * @return id остатка, либо null, если остатка ещё нет.
+     * @since 0.0.1-alpha
+     */
+    @Query("select c.id from AccountCash c where c.account.id = :accountId and c.assetCurrency = :assetCurrency"
+            + " and c.assetsOwner.id = :assetsOwnerId")
+    Long findIdByAccountIdAndAssetCurrencyAndAssetsOwnerId(@Param("accountId") Long accountId,
+                                                           @Param("assetCurrency") AssetCurrency assetCurrency,
+                                                           @Param("assetsOwnerId") Long assetsOwnerId);
+
+    /**
+     * Загрузка остатка с блокировкой строки до конца транзакции. Блокировка сериализует списания и сдвиг снимка
+     * одного остатка, но не пополнения: пополнения дописывают движения без блокировки строки остатка.
+     * @param id id остатка.
+     * @return Заблокированный остаток.
+     * @since 0.0.1-alpha
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AccountCash> findWithLockById(Long id);
+
+    /**
+     * Пакетная загрузка остатков для пакетной операции: по всем парам переданных счетов и собственников,
+     * лишние пары отбрасывает сервис.
+     * @param accountIds id счетов.
+     * @param assetsOwnerIds id собственников.
+     * @return остатки переданных собственников на переданных счетах.
+     * @since 0.0.1-alpha
+     */
+    List<AccountCash> findByAccountIdInAndAssetsOwnerIdIn(Collection<Long> accountIds,
+                                                         Collection<Long> assetsOwnerIds);
+
+    /**
+     * Пакетная блокировка остатков. Строки блокируются по возрастанию id, потому встречные пакетные операции
+     * не взаимоблокируются.
+     * @param ids id остатков.
+     * @return Заблокированные остатки.
+     * @since 0.0.1-alpha
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<AccountCash> findWithLockByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * Текущие суммы остатков - снимок плюс не вошедшие в него движения - одним запросом на стороне БД.
+     * @param ids id остатков.
+     * @return id остатков и их текущие суммы.
+     * @since 0.0.1-alpha
+     */
+    @Query("select c.id as accountCashId, c.snapshotAmount + coalesce(sum(m.amount), 0) as amount"
+            + " from AccountCash c left join CashMovement m on m.accountCash = c and m.compactedIntoSnapshot is null"
+            + " where c.id in :ids group by c.id, c.snapshotAmount")
+    List<AccountCashAmount> findCurrentAmounts(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Порция остатков, у которых есть не вошедшие в снимок движения, для
+     * {@link fund.data.assets.job.CashBalanceCompactionJob}.
+     * @param afterId id, после которого начинается порция.
+     * @param pageable размер порции.
+     * @return id остатков по возрастанию.
+     * @since 0.0.1-alpha
+     */
+    @Query("select c.id from AccountCash c where c.id > :afterId and exists (select m.id from CashMovement m"
+            + " where m.accountCash = c and m.compactedIntoSnapshot is null) order by c.id")
+    List<Long> findIdsWithNotCompactedMovements(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Текущая сумма остатка для {@link #findCurrentAmounts}.
+     */
+    interface AccountCashAmount {
+        Long getAccountCashId();
+        Long getAmount();
+    }
 }
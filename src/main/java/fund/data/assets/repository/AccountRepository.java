@@ -2,9 +2,12 @@ package fund.data.assets.repository;
 
 import fund.data.assets.model.financial_entities.Account;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * DAO для обслуживания банковских счетов.
  * Обслуживаемая сущность - {@link fund.data.assets.model.financial_entities.Account}.
@@ -13,6 +16,15 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface AccountRepository extends JpaRepository<Account, Long> {
+    /**
+     * Страница для keyset-пагинации списка, см. {@link fund.data.assets.utils.KeysetPagination}.
+     * @param id id, после которого начинается страница.
+     * @param pageable размер страницы и сортировка по id.
+     * @return записи с id больше переданного.
+     * @since 0.0.1-alpha
+     */
+    List<Account> findByIdGreaterThan(Long id, Pageable pageable);
+
     /**
      * Хотя счёт определяет сочетание организации, где он открыт, и его номера,
      * был добавлен этот метод для упрощения написания интеграционных тестов контроллера счёта.
@@ -0,0 +1,68 @@
+package fund.data.assets.repository;
+
+import fund.data.assets.model.financial_entities.CashMovement;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * DAO для обслуживания журнала движений денежных средств собственников активов на счетах.
+ * Обслуживаемая сущность - {@link CashMovement}.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Repository
+public interface CashMovementRepository extends JpaRepository<CashMovement, Long> {
+    /**
+     * Страница истории движений одного остатка для keyset-пагинации, см.
+     * {@link fund.data.assets.utils.KeysetPagination}.
+     * @param accountCashId id остатка.
+     * @param id id, после которого начинается страница.
+     * @param pageable размер страницы и сортировка по id.
+     * @return движения остатка с id больше переданного.
+     * @since 0.0.1-alpha
+     */
+    List<CashMovement> findByAccountCashIdAndIdGreaterThan(Long accountCashId, Long id, Pageable pageable);
+
+    /**
+     * Сумма движений остатка, ещё не вошедших в снимок, - разница между текущим остатком и его снимком.
+     * @param accountCashId id остатка.
+     * @return Сумма движений в минимальных единицах валюты, 0 - если движений нет.
+     * @since 0.0.1-alpha
+     */
+    @Query("select coalesce(sum(m.amount), 0) from CashMovement m"
+            + " where m.accountCash.id = :accountCashId and m.compactedIntoSnapshot is null")
+    Long sumNotCompactedAmounts(@Param("accountCashId") Long accountCashId);
+
+    /**
+     * Помечает движения остатка, ещё не вошедшие в снимок, номером нового снимка. Помечаются только движения
+     * зафиксированных транзакций: движения, дописываемые в это время, останутся непомеченными и войдут
+     * в следующий снимок.
+     * @param accountCashId id остатка.
+     * @param snapshotNumber Номер нового снимка.
+     * @return Число помеченных движений.
+     * @since 0.0.1-alpha
+     */
+    @Modifying
+    @Query("update CashMovement m set m.compactedIntoSnapshot = :snapshotNumber"
+            + " where m.accountCash.id = :accountCashId and m.compactedIntoSnapshot is null")
+    int markNotCompactedAsCompacted(@Param("accountCashId") Long accountCashId,
+                                    @Param("snapshotNumber") Long snapshotNumber);
+
+    /**
+     * @param accountCashId id остатка.
+     * @param snapshotNumber Номер снимка.
+     * @return Сумма движений, вошедших в снимок, в минимальных единицах валюты.
+     * @since 0.0.1-alpha
+     */
+    @Query("select coalesce(sum(m.amount), 0) from CashMovement m"
+            + " where m.accountCash.id = :accountCashId and m.compactedIntoSnapshot = :snapshotNumber")
+    Long sumCompactedAmounts(@Param("accountCashId") Long accountCashId,
+                             @Param("snapshotNumber") Long snapshotNumber);
+}
@@ -0,0 +1,32 @@
+package fund.data.assets.repository;
+
+import fund.data.assets.model.financial_entities.CashOperationIdempotencyKey;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * DAO для обслуживания ключей идемпотентности операций с денежными средствами.
+ * Обслуживаемая сущность - {@link CashOperationIdempotencyKey}.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Repository
+public interface CashOperationIdempotencyKeyRepository extends JpaRepository<CashOperationIdempotencyKey, String> {
+    /**
+     * Удаляет ключи, срок хранения которых истёк, - повтор запроса с таким ключом будет проведён как новая операция.
+     * @param createdBefore Время, раньше которого созданы удаляемые ключи.
+     * @return Количество удалённых ключей.
+     * @since 0.0.1-alpha
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from CashOperationIdempotencyKey k where k.createdAt < :createdBefore")
+    int deleteCreatedBefore(@Param("createdBefore") Instant createdBefore);
+}
@@ -1,10 +1,24 @@
 package fund.data.assets.repository;
 
+import fund.data.assets.dto.FixedRateBondHoldingDTO;
 import fund.data.assets.model.asset.exchange.FixedRateBond;
+import fund.data.assets.utils.analytics.FixedRateBondMetrics;
 
+import jakarta.persistence.QueryHint;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * DAO для обслуживания облигаций с фиксированным купоном.
  * Обслуживаемая сущность - {@link fund.data.assets.model.asset.exchange.FixedRateBond}.
@@ -13,4 +27,91 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface FixedRateBondRepository extends JpaRepository<FixedRateBond, Long> {
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Страница для keyset-пагинации списка, см. {@link fund.data.assets.utils.KeysetPagination}.
+     * @param id id, после которого начинается страница.
+     * @param pageable размер страницы и сортировка по id.
+     * @return записи с id больше переданного.
+     * @since 0.0.1-alpha
+     */
+    List<FixedRateBond> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Облигации выпуска у всех собственников и на всех счетах, поиск по индексу asset_isin_idx.
+     * @param iSIN ISIN выпуска.
+     * @return Облигации выпуска по возрастанию id.
+     * @since 0.0.1-alpha
+     */
+    @Query("select b from FixedRateBond b where b.iSIN = :iSIN order by b.id")
+    List<FixedRateBond> findByISIN(@Param("iSIN") String iSIN);
+
+    /**
+     * Позиция по выпуску облигаций у всех собственников и на всех счетах - одним запросом на стороне БД.
+     * @param iSIN ISIN выпуска.
+     * @return Количество записей об облигациях выпуска и суммарное количество облигаций, 0 - если их нет на учёте.
+     * @since 0.0.1-alpha
+     */
+    @Query("select count(b.id) as holdingsCount, coalesce(sum(b.assetCount), 0) as totalAssetCount"
+            + " from FixedRateBond b where b.iSIN = :iSIN")
+    ISINTotals findISINTotals(@Param("iSIN") String iSIN);
+
+    /**
+     * Порция id ещё не погашенных облигаций для пересчёта доходностей, см.
+     * {@link fund.data.assets.job.BondYieldsRecalculationJob}.
+     * @param afterId id, после которого начинается порция.
+     * @param valuationDate Дата пересчёта - облигации с датой погашения не позже неё в порцию не попадают.
+     * @param pageable размер порции.
+     * @return id облигаций по возрастанию.
+     * @since 0.0.1-alpha
+     */
+    @Query("select b.id from FixedRateBond b where b.id > :afterId and b.bondMaturityDate > :valuationDate"
+            + " order by b.id")
+    List<Long> findNotRedeemedIds(@Param("afterId") Long afterId, @Param("valuationDate") LocalDate valuationDate,
+                                  Pageable pageable);
+
+    /**
+     * Потоковая выборка всех облигаций вместе с собственником и счётом для выгрузки.
+     * Строки сразу собираются в DTO, а драйвер БД получает их порциями по EXPORT_FETCH_SIZE, потому расход памяти
+     * не зависит от размера таблицы. Stream нужно читать внутри транзакции и закрывать после чтения.
+     * @return Поток строк выгрузки, отсортированных по id облигации.
+     * @since 0.0.1-alpha
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new fund.data.assets.dto.FixedRateBondHoldingDTO(b.id, b.iSIN, b.assetTitle, b.assetIssuerTitle,"
+            + " b.assetCurrency, b.assetCount, b.lastAssetBuyDate, b.bondParValue, b.purchaseBondParValuePercent,"
+            + " b.bondAccruedInterest, b.bondCouponValue, b.bondMaturityDate, b.totalAssetPurchasePriceWithCommission,"
+            + " b.simpleYieldToMaturity, b.markDementevYieldIndicator, o.id, o.name, o.surname,"
+            + " a.id, a.organisationWhereAccountOpened, a.accountNumber)"
+            + " from FixedRateBond b join treat(b.assetRelationship as FinancialAssetRelationship) r"
+            + " join r.assetsOwner o join r.account a order by b.id")
+    Stream<FixedRateBondHoldingDTO> streamAllHoldings();
+
+    /**
+     * Потоковая выборка показателей всех облигаций для загрузки
+     * {@link fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot}.
+     * Stream нужно читать внутри транзакции и закрывать после чтения.
+     * @return Поток показателей облигаций.
+     * @since 0.0.1-alpha
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select new fund.data.assets.utils.analytics.FixedRateBondMetrics(b.id, b.iSIN, b.assetIssuerTitle,"
+            + " b.assetCount, b.bondParValue, b.purchaseBondParValuePercent, b.bondCouponValue, b.bondMaturityDate,"
+            + " b.simpleYieldToMaturity, b.markDementevYieldIndicator) from FixedRateBond b")
+    Stream<FixedRateBondMetrics> streamAllMetrics();
+
+    /**
+     * Позиция по выпуску для {@link #findISINTotals}.
+     */
+    interface ISINTotals {
+        Long getHoldingsCount();
+        Long getTotalAssetCount();
+    }
 }
@@ -2,9 +2,21 @@ package fund.data.assets.repository;
 
 import fund.data.assets.model.owner.RussianAssetsOwner;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static fund.data.assets.utils.crypto.AesGcmStringEncryptor.CIPHERTEXT_VERSION_PREFIX;
+
 /**
  * DAO для обслуживания владельца активов с гражданством РФ.
  * Обслуживаемая сущность - {@link RussianAssetsOwner}.
@@ -13,4 +25,163 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface RussianAssetsOwnerRepository extends JpaRepository<RussianAssetsOwner, Long> {
+    /**
+     * Страница для keyset-пагинации списка, см. {@link fund.data.assets.utils.KeysetPagination}.
+     * @param id id, после которого начинается страница.
+     * @param pageable размер страницы и сортировка по id.
+     * @return записи с id больше переданного.
+     * @since 0.0.1-alpha
+     */
+    List<RussianAssetsOwner> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Загрузка собственника вместе с активами на его балансе одним запросом.
+     * @param id id собственника.
+     * @return Собственник с загруженными связями с активами и самими активами.
+     * @since 0.0.1-alpha
+     */
+    @EntityGraph(attributePaths = {"assetRelationships", "assetRelationships.asset"})
+    Optional<RussianAssetsOwner> findWithAssetRelationshipsById(Long id);
+
+    /**
+     * Проверка уникальности email без расшифровки email всех собственников.
+     * @param emailBlindIndex слепой индекс email, рассчитанный {@link fund.data.assets.utils.BlindIndexCalculator}.
+     * @return true, если собственник с таким email уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    boolean existsByEmailBlindIndex(String emailBlindIndex);
+
+    /**
+     * Проверка уникальности номера мобильного телефона без расшифровки номеров всех собственников.
+     * @param mobilePhoneBlindIndex слепой индекс номера, рассчитанный
+     * {@link fund.data.assets.utils.BlindIndexCalculator}.
+     * @return true, если собственник с таким номером уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    boolean existsByMobilePhoneBlindIndex(String mobilePhoneBlindIndex);
+
+    /**
+     * Проверка уникальности паспорта РФ без расшифровки паспортных данных всех собственников.
+     * @param passportFingerprint отпечаток паспорта, рассчитанный {@link fund.data.assets.utils.BlindIndexCalculator}.
+     * @return true, если собственник с таким паспортом уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    boolean existsByPassportFingerprint(String passportFingerprint);
+
+    /**
+     * Проверка уникальности паспорта РФ при изменении персональных данных собственника.
+     * @param passportFingerprint новый отпечаток паспорта.
+     * @param id id изменяемого собственника - его собственный паспорт не считается совпадением.
+     * @return true, если другой собственник с таким паспортом уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    boolean existsByPassportFingerprintAndIdNot(String passportFingerprint, Long id);
+
+    /**
+     * Проверка уникальности email при изменении контактных данных собственника.
+     * @param emailBlindIndex слепой индекс нового email.
+     * @param id id изменяемого собственника - его собственный email не считается совпадением.
+     * @return true, если другой собственник с таким email уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    boolean existsByEmailBlindIndexAndIdNot(String emailBlindIndex, Long id);
+
+    /**
+     * Проверка уникальности номера мобильного телефона при изменении контактных данных собственника.
+     * @param mobilePhoneBlindIndex слепой индекс нового номера.
+     * @param id id изменяемого собственника - его собственный номер не считается совпадением.
+     * @return true, если другой собственник с таким номером уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    boolean existsByMobilePhoneBlindIndexAndIdNot(String mobilePhoneBlindIndex, Long id);
+
+    /**
+     * Пакетная проверка уникальности email при массовом импорте собственников - один запрос на порцию.
+     * @param emailBlindIndexes слепые индексы email импортируемых собственников.
+     * @return те из переданных индексов, что уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    @Query("select o.emailBlindIndex from RussianAssetsOwner o where o.emailBlindIndex in :emailBlindIndexes")
+    Set<String> findExistingEmailBlindIndexes(@Param("emailBlindIndexes") Collection<String> emailBlindIndexes);
+
+    /**
+     * Пакетная проверка уникальности номеров мобильных телефонов при массовом импорте собственников.
+     * @param mobilePhoneBlindIndexes слепые индексы номеров импортируемых собственников.
+     * @return те из переданных индексов, что уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    @Query("select o.mobilePhoneBlindIndex from RussianAssetsOwner o"
+            + " where o.mobilePhoneBlindIndex in :mobilePhoneBlindIndexes")
+    Set<String> findExistingMobilePhoneBlindIndexes(
+            @Param("mobilePhoneBlindIndexes") Collection<String> mobilePhoneBlindIndexes);
+
+    /**
+     * Пакетная проверка уникальности паспортов РФ при массовом импорте собственников.
+     * @param passportFingerprints отпечатки паспортов импортируемых собственников.
+     * @return те из переданных отпечатков, что уже есть в системе.
+     * @since 0.0.1-alpha
+     */
+    @Query("select o.passportFingerprint from RussianAssetsOwner o"
+            + " where o.passportFingerprint in :passportFingerprints")
+    Set<String> findExistingPassportFingerprints(
+            @Param("passportFingerprints") Collection<String> passportFingerprints);
+
+    /**
+     * Нужен для разового заполнения слепых индексов у собственников, добавленных до их появления.
+     * Выборка идёт порциями по возрастанию id, чтобы не загружать всю таблицу разом.
+     * @param afterId id, после которого начинается порция.
+     * @param pageable размер порции.
+     * @return собственники, у которых не заполнен хотя бы один слепой индекс.
+     * @since 0.0.1-alpha
+     */
+    @Query("select o from RussianAssetsOwner o where o.id > :afterId and (o.mobilePhoneBlindIndex is null"
+            + " or o.passportFingerprint is null or (o.emailBlindIndex is null and o.email is not null)) order by o.id")
+    List<RussianAssetsOwner> findWithoutBlindIndexes(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Нужен для разового перешифрования в AES-GCM полей, зашифрованных прежним PBE-шифратором, см.
+     * {@link fund.data.assets.job.FieldReEncryptionJob}. Шифротекст сверяется с префиксом версии прямо в БД,
+     * потому поля при выборке не расшифровываются.
+     * @param afterId id, после которого начинается порция.
+     * @param limit размер порции.
+     * @return id собственников по возрастанию, у которых хотя бы одно поле зашифровано прежним шифратором.
+     * @since 0.0.1-alpha
+     */
+    @Query(value = "select o.id from assets_owner o join russian_assets_owner r on r.id = o.id where o.id > :afterId"
+            + " and (o.email not like '" + CIPHERTEXT_VERSION_PREFIX + "%'"
+            + " or r.mobile_phone_number not like '" + CIPHERTEXT_VERSION_PREFIX + "%'"
+            + " or r.passport_series not like '" + CIPHERTEXT_VERSION_PREFIX + "%'"
+            + " or r.passport_number not like '" + CIPHERTEXT_VERSION_PREFIX + "%') order by o.id limit :limit",
+            nativeQuery = true)
+    List<Long> findIdsWithLegacyEncryptedFields(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * Запись перешифрованного email. Hibernate не считает поле изменённым, ведь его значение то же, потому
+     * шифротекст пишется напрямую. Версия строки увеличивается, как при обычном изменении собственника.
+     * @param id id собственника.
+     * @param version версия строки, с которой собственник был прочитан.
+     * @param email email, зашифрованный текущим шифратором.
+     * @return 1, если строка записана, 0 - если собственник успел измениться с момента чтения.
+     * @since 0.0.1-alpha
+     */
+    @Modifying
+    @Query(value = "update assets_owner set email = :email, version = version + 1"
+            + " where id = :id and version = :version", nativeQuery = true)
+    int updateEncryptedEmail(@Param("id") Long id, @Param("version") Long version, @Param("email") String email);
+
+    /**
+     * Запись перешифрованных номера мобильного телефона и паспортных данных, см. updateEncryptedEmail.
+     * @param id id собственника.
+     * @param mobilePhoneNumber номер мобильного телефона, зашифрованный текущим шифратором.
+     * @param passportSeries серия паспорта, зашифрованная текущим шифратором.
+     * @param passportNumber номер паспорта, зашифрованный текущим шифратором.
+     * @since 0.0.1-alpha
+     */
+    @Modifying
+    @Query(value = "update russian_assets_owner set mobile_phone_number = :mobilePhoneNumber,"
+            + " passport_series = :passportSeries, passport_number = :passportNumber where id = :id",
+            nativeQuery = true)
+    void updateEncryptedPersonalData(@Param("id") Long id, @Param("mobilePhoneNumber") String mobilePhoneNumber,
+                                     @Param("passportSeries") String passportSeries,
+                                     @Param("passportNumber") String passportNumber);
 }
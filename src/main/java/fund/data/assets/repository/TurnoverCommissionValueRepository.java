@@ -1,11 +1,18 @@
 package fund.data.assets.repository;
 
+import fund.data.assets.config.CacheConfig;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.model.financial_entities.TurnoverCommissionValue;
 
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * DAO для обслуживания размера комиссии с оборота для типа актива на счёте.
  * Обслуживаемая сущность - {@link fund.data.assets.model.financial_entities.TurnoverCommissionValue}.
@@ -14,5 +21,37 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface TurnoverCommissionValueRepository extends JpaRepository<TurnoverCommissionValue, Long> {
+    /**
+     * Страница для keyset-пагинации списка, см. {@link fund.data.assets.utils.KeysetPagination}.
+     * @param id id, после которого начинается страница.
+     * @param pageable размер страницы и сортировка по id.
+     * @return записи с id больше переданного.
+     * @since 0.0.1-alpha
+     */
+    List<TurnoverCommissionValue> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Размер комиссии для типа актива на счёте.
+     * @param account Счёт.
+     * @param assetTypeName Тип актива.
+     * @return Размер комиссии, либо null, если ставка не задана.
+     * @since 0.0.1-alpha
+     */
     TurnoverCommissionValue findByAccountAndAssetTypeName(Account account, String assetTypeName);
+
+    /**
+     * Размер комиссии с оборота для расчёта комиссии при покупке актива. Ставки меняются редко, потому результат
+     * кэшируется по ключу SimpleKey(accountId, assetTypeName). Кэш сбрасывает
+     * {@link fund.data.assets.service.impl.TurnoverCommissionValueServiceImpl} при изменении ставок.
+     * @param accountId id счёта, где проводится операция.
+     * @param assetTypeName Тип актива, с которым проводится операция.
+     * @return Размер процента с оборота в миллионных долях, либо null, если ставка не задана - такой
+     * результат не кэшируется.
+     * @since 0.0.1-alpha
+     */
+    @Cacheable(cacheNames = CacheConfig.TURNOVER_COMMISSION_PERCENT_VALUES_CACHE, unless = "#result == null")
+    @Query("select t.commissionPercentValue from TurnoverCommissionValue t"
+            + " where t.account.id = :accountId and t.assetTypeName = :assetTypeName")
+    Long findCommissionPercentValue(@Param("accountId") Long accountId,
+                                     @Param("assetTypeName") String assetTypeName);
 }
@@ -2,6 +2,7 @@ package fund.data.assets.service;
 
 import fund.data.assets.dto.AccountCashDTO;
 import fund.data.assets.model.financial_entities.AccountCash;
+import fund.data.assets.model.financial_entities.CashMovement;
 
 import java.util.List;
 
@@ -11,11 +12,14 @@ import java.util.List;
  * Сущность жёстко привязана к активу и к собственнику, потому в данном сервисе отсутствует отдельный метод для
  * удаления сущности, удаление реализовано опосредованно, посредством удаления аккаунта или собственника денежных
  * средств.
+ * Операции с остатком хранятся в журнале движений {@link CashMovement}, по которому можно проверить любой остаток.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
 public interface AccountCashService {
     AccountCash getCash(Long id);
-    List<AccountCash> getAllCash();
-    AccountCash depositOrWithdrawCashAmount(AccountCashDTO accountCashDTO);
+    List<AccountCash> getAllCash(Long afterId, Integer pageSize);
+    List<CashMovement> getCashMovements(Long id, Long afterId, Integer pageSize);
+    AccountCash depositOrWithdrawCashAmount(AccountCashDTO accountCashDTO, String idempotencyKey);
+    List<AccountCash> depositOrWithdrawCashAmounts(List<AccountCashDTO> accountCashDTOs);
 }
@@ -13,7 +13,7 @@ import java.util.List;
  */
 public interface AccountService {
     Account getAccount(Long id);
-    List<Account> getAccounts();
+    List<Account> getAccounts(Long afterId, Integer pageSize);
     Account createAccount(AccountDTO accountDTO);
     Account updateAccount(Long id, AccountDTO accountDTO);
     void deleteAccount(Long id);
@@ -2,6 +2,13 @@ package fund.data.assets.service;
 
 //import fund.data.assets.dto.FixedRateBondDTO;
 import fund.data.assets.model.asset.exchange.FixedRateBond;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.BondYieldType;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.ISINHoldings;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.IssuerAggregate;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.MaturityBucket;
+import fund.data.assets.utils.analytics.FixedRateBondMetrics;
+
+import java.io.OutputStream;
 
 import java.util.List;
 
@@ -13,6 +20,12 @@ import java.util.List;
  */
 public interface FixedRateBondService {
     FixedRateBond getFixedRateBond(Long id);
-    List<FixedRateBond> getFixedRateBonds();
+    List<FixedRateBond> getFixedRateBonds(Long afterId, Integer pageSize);
+    List<FixedRateBond> getFixedRateBondsByISIN(String iSIN);
+    ISINHoldings getFixedRateBondHoldingsByISIN(String iSIN);
+    void exportFixedRateBondHoldings(OutputStream outputStream);
+    List<FixedRateBondMetrics> getTopFixedRateBondsByYield(BondYieldType yieldType, Integer limit);
+    List<MaturityBucket> getFixedRateBondsMaturityBuckets(Integer bucketDays, Integer bucketsCount);
+    List<IssuerAggregate> getFixedRateBondsIssuerAggregates();
 //    FixedRateBond firstBuyFixedRateBond(FixedRateBondDTO fixedRateBondDTO);
 }
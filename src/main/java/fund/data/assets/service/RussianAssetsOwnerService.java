@@ -5,6 +5,8 @@ import fund.data.assets.dto.owner.PersonalDataRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.ContactDataRussianAssetsOwnerDTO;
 import fund.data.assets.model.owner.RussianAssetsOwner;
 
+import java.io.InputStream;
+
 import java.time.LocalDate;
 
 import java.util.List;
@@ -17,8 +19,10 @@ import java.util.List;
  */
 public interface RussianAssetsOwnerService {
     RussianAssetsOwner getRussianAssetsOwner(Long id);
-    List<RussianAssetsOwner> getRussianAssetsOwners();
+    RussianAssetsOwner getRussianAssetsOwnerWithHoldings(Long id);
+    List<RussianAssetsOwner> getRussianAssetsOwners(Long afterId, Integer pageSize);
     RussianAssetsOwner createRussianAssetsOwner(NewRussianAssetsOwnerDTO newRussianAssetsOwnerDTO);
+    List<Long> importRussianAssetsOwners(InputStream ndjsonInputStream);
     RussianAssetsOwner updateRussianAssetsOwnerPersonalData(
             Long id, PersonalDataRussianAssetsOwnerDTO personalDataRussianAssetsOwnerDTO);
     RussianAssetsOwner updateRussianAssetsOwnerContactData(
@@ -14,7 +14,7 @@ import java.util.List;
  */
 public interface TurnoverCommissionValueService {
     TurnoverCommissionValue getTurnoverCommissionValue(Long id);
-    List<TurnoverCommissionValue> getTurnoverCommissionValues();
+    List<TurnoverCommissionValue> getTurnoverCommissionValues(Long afterId, Integer pageSize);
     TurnoverCommissionValue createTurnoverCommissionValue(TurnoverCommissionValueDTO TurnoverCommissionValueDTO);
     TurnoverCommissionValue updateTurnoverCommissionValue(Long id, PercentFloatValueDTO percentFloatValueDTO);
     void deleteTurnoverCommissionValue(Long id);
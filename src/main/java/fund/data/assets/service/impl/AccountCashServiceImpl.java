@@ -1,23 +1,47 @@
 package fund.data.assets.service.impl;
 
+import fund.data.assets.config.CacheConfig;
 import fund.data.assets.dto.AccountCashDTO;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.model.financial_entities.AccountCash;
+import fund.data.assets.model.financial_entities.CashMovement;
+import fund.data.assets.model.financial_entities.CashOperationIdempotencyKey;
 import fund.data.assets.model.owner.RussianAssetsOwner;
 import fund.data.assets.repository.AccountRepository;
 import fund.data.assets.repository.AccountCashRepository;
+import fund.data.assets.repository.CashMovementRepository;
+import fund.data.assets.repository.CashOperationIdempotencyKeyRepository;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 import fund.data.assets.service.AccountCashService;
 import fund.data.assets.utils.enums.AssetCurrency;
+import fund.data.assets.utils.KeysetPagination;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.persistence.EntityManager;
 
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Реализация сервиса для обслуживания денежных средств собственников активов на счетах.
@@ -26,11 +50,58 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author MarkDementev a.k.a JavaMarkDem
  */
 @Service
-@RequiredArgsConstructor
 public class AccountCashServiceImpl implements AccountCashService {
+    public static final String NOT_ENOUGH_CASH_WARNING = "This is error - not enough cash on account to withdraw" +
+            " this amount!";
+    public static final String TOO_BIG_CASH_BATCH_WARNING = "This is error - cash operations batch is bigger than %d" +
+            " operations!";
+    public static final String NOT_VALID_CASH_BATCH_ITEM_WARNING = "This is error - cash operation number %d" +
+            " isn't valid: %s";
+    public static final String NOT_VALID_IDEMPOTENCY_KEY_WARNING = "This is error - idempotency key must be" +
+            " not blank and not longer than " + CashOperationIdempotencyKey.MAX_KEY_LENGTH + " symbols!";
+    public static final String REUSED_IDEMPOTENCY_KEY_WARNING = "This is error - idempotency key is already used" +
+            " for another cash operation!";
+    public static final String NOT_ENOUGH_CASH_BATCH_ITEM_WARNING = "This is error - not enough cash on account to" +
+            " withdraw the amount of cash operation number %d!";
+    public static final String NOT_FOUND_CASH_BATCH_ITEM_WARNING = "This is error - account or assets owner of cash" +
+            " operation number %d isn't found!";
+    public static final String DELETED_CASH_OF_IDEMPOTENT_OPERATION_WARNING = "This is error - cash changed by" +
+            " the operation with this idempotency key is already deleted!";
     final AccountCashRepository accountCashRepository;
+    final CashMovementRepository cashMovementRepository;
+    final CashOperationIdempotencyKeyRepository cashOperationIdempotencyKeyRepository;
     final AccountRepository accountRepository;
     final RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    final KeysetPagination keysetPagination;
+    final EntityManager entityManager;
+    final Validator validator;
+    final TransactionTemplate transactionTemplate;
+    final CacheManager cacheManager;
+    @Value("${account-cash-batch.max-batch-size:1000}")
+    private int batchMaxSize;
+
+    public AccountCashServiceImpl(AccountCashRepository accountCashRepository,
+                                  CashMovementRepository cashMovementRepository,
+                                  CashOperationIdempotencyKeyRepository cashOperationIdempotencyKeyRepository,
+                                  AccountRepository accountRepository,
+                                  RussianAssetsOwnerRepository russianAssetsOwnerRepository,
+                                  KeysetPagination keysetPagination,
+                                  EntityManager entityManager,
+                                  Validator validator,
+                                  PlatformTransactionManager transactionManager,
+                                  CacheManager cacheManager) {
+        this.accountCashRepository = accountCashRepository;
+        this.cashMovementRepository = cashMovementRepository;
+        this.cashOperationIdempotencyKeyRepository = cashOperationIdempotencyKeyRepository;
+        this.accountRepository = accountRepository;
+        this.russianAssetsOwnerRepository = russianAssetsOwnerRepository;
+        this.keysetPagination = keysetPagination;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.cacheManager = cacheManager;
+    }
 
     @Override
     public AccountCash getCash(Long id) {
@@ -38,29 +109,322 @@ public class AccountCashServiceImpl implements AccountCashService {
     }
 
     @Override
-    public List<AccountCash> getAllCash() {
-        return accountCashRepository.findAll();
+    public List<AccountCash> getAllCash(Long afterId, Integer pageSize) {
+        return accountCashRepository.findByIdGreaterThan(keysetPagination.getAfterId(afterId),
+                keysetPagination.getPageRequest(pageSize));
+    }
+
+    @Override
+    public List<CashMovement> getCashMovements(Long id, Long afterId, Integer pageSize) {
+        return cashMovementRepository.findByAccountCashIdAndIdGreaterThan(id, keysetPagination.getAfterId(afterId),
+                keysetPagination.getPageRequest(pageSize));
+    }
+
+    /**
+     * Пополнение или списание, проводимое в транзакции при READ_COMMITTED, см. {@link #applyCashOperation}.
+     * Операция с ключом идемпотентности: повтор запроса с тем же ключом, к примеру, после тайм-аута у клиента,
+     * не проводит операцию второй раз и не открывает транзакцию с блокировками, а возвращает остаток, изменённый
+     * исходной операцией, с суммой сразу после неё, сохранённой вместе с ключом: операции, проведённые после
+     * исходной, на ответ повтору не влияют. Проведённые ключи ищутся сначала в ограниченном внутрипроцессном
+     * кэше, затем в БД.
+     * Ключ сохраняется первым в транзакции операции: одновременный повтор с тем же ключом ждёт на ограничении
+     * первичного ключа и после фиксации исходной операции получает её результат.
+     * @param accountCashDTO Данные операции.
+     * @param idempotencyKey Ключ идемпотентности из заголовка Idempotency-Key, либо null, если клиент его не передал.
+     * @return Остаток, изменённый операцией.
+     * @throws IllegalArgumentException Если ключ пуст или слишком длинный, либо уже использован с другими
+     * параметрами операции.
+     * @throws ResponseStatusException Со статусом 404 Not Found, если остаток, изменённый исходной операцией, с тех
+     * пор удалён вместе со счётом или собственником.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public AccountCash depositOrWithdrawCashAmount(AccountCashDTO accountCashDTO, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return transactionTemplate.execute(status -> applyCashOperation(accountCashDTO));
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > CashOperationIdempotencyKey.MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(NOT_VALID_IDEMPOTENCY_KEY_WARNING);
+        }
+
+        String requestFingerprint = getRequestFingerprint(accountCashDTO);
+        CashOperationIdempotencyKey processedOperationKey = findProcessedOperationKey(idempotencyKey);
+
+        if (processedOperationKey == null) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    CashOperationIdempotencyKey operationKey = cashOperationIdempotencyKeyRepository.saveAndFlush(
+                            new CashOperationIdempotencyKey(idempotencyKey, requestFingerprint));
+                    AccountCash changedAccountCash = applyCashOperation(accountCashDTO);
+
+                    operationKey.setAccountCashId(changedAccountCash.getId());
+                    operationKey.setResultAmount(changedAccountCash.getAmount());
+                    return changedAccountCash;
+                });
+            } catch (DataIntegrityViolationException concurrentOperationException) {
+                processedOperationKey = findProcessedOperationKey(idempotencyKey);
+
+                if (processedOperationKey == null) {
+                    throw concurrentOperationException;
+                }
+            }
+        }
+        if (!processedOperationKey.getRequestFingerprint().equals(requestFingerprint)) {
+            throw new IllegalArgumentException(REUSED_IDEMPOTENCY_KEY_WARNING);
+        }
+        return accountCashRepository.findById(processedOperationKey.getAccountCashId())
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        DELETED_CASH_OF_IDEMPOTENT_OPERATION_WARNING))
+                .copyWithAmount(processedOperationKey.getResultAmount());
+    }
+
+    /**
+     * Операция дописывается в журнал {@link CashMovement}, строка остатка при этом не изменяется. Пополнение -
+     * только вставка движения без блокировки строки остатка, потому одновременные пополнения одного остатка
+     * ограничены скоростью вставки. Списание блокирует строку остатка, чтобы одновременные списания
+     * не увели его в минус: пополнения, идущие параллельно, остаток только увеличивают.
+     * Строка остатка создаётся при первой операции; если две первые операции одного остатка придут одновременно,
+     * вторую отклонит ограничение уникальности.
+     * Вызывается внутри транзакции.
+     * @param accountCashDTO Данные операции.
+     * @return Остаток с учётом операции.
+     * @throws IllegalArgumentException Если остатка не хватает для списания.
+     * @since 0.0.1-alpha
+     */
+    private AccountCash applyCashOperation(AccountCashDTO accountCashDTO) {
+        Long amountFromDTO = accountCashDTO.getAmount();
+        Long accountCashId = accountCashRepository.findIdByAccountIdAndAssetCurrencyAndAssetsOwnerId(
+                accountCashDTO.getAccountID(), accountCashDTO.getAssetCurrency(), accountCashDTO.getAssetsOwnerID());
+        AccountCash accountCashToWorkWith;
+
+        if (accountCashId == null) {
+            accountCashToWorkWith = createCash(accountCashDTO);
+        } else if (amountFromDTO < 0) {
+            accountCashToWorkWith = accountCashRepository.findWithLockById(accountCashId).orElseThrow();
+        } else {
+            accountCashToWorkWith = accountCashRepository.getReferenceById(accountCashId);
+        }
+        if (amountFromDTO < 0) {
+            checkEnoughCashToWithdraw(accountCashToWorkWith, amountFromDTO);
+        }
+        cashMovementRepository.saveAndFlush(new CashMovement(accountCashToWorkWith, amountFromDTO));
+        entityManager.refresh(accountCashToWorkWith);
+        return accountCashToWorkWith;
     }
 
+    /**
+     * Пакетное пополнение и списание, к примеру, выплаты купонов за день. Счета и собственники всех операций
+     * загружаются одним запросом с IN каждые, операции группируются по остатку (счёт, валюта, собственник),
+     * а движения пишутся пакетными вставками (hibernate.jdbc.batch_size). Блокируются только остатки, по которым
+     * в пакете есть списания, и только они проверяются на достаточность средств - после каждой операции в порядке
+     * пакета, а не по итогу пакета. Пакет применяется целиком или не применяется вовсе.
+     * @param accountCashDTOs Операции в порядке их проведения.
+     * @return Остатки, затронутые пакетом, в порядке первого упоминания в пакете.
+     * @throws IllegalArgumentException Если пакет слишком велик, какая-то операция не валидна, либо какого-то
+     * остатка не хватает для списания.
+     * @throws NoSuchElementException Если счёт или собственник какой-то операции не найден.
+     * @since 0.0.1-alpha
+     */
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE, rollbackFor = {Exception.class})
-    public AccountCash depositOrWithdrawCashAmount(AccountCashDTO accountCashDTO) {
-        AtomicReference<AccountCash> accountCashAtomicReference;
+    @Transactional(isolation = Isolation.READ_COMMITTED, rollbackFor = {Exception.class})
+    public List<AccountCash> depositOrWithdrawCashAmounts(List<AccountCashDTO> accountCashDTOs) {
+        checkCashBatch(accountCashDTOs);
+
+        Map<Long, Account> accountsById = accountRepository.findAllById(accountCashDTOs.stream()
+                        .map(AccountCashDTO::getAccountID)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Account::getId, Function.identity()));
+        Map<Long, RussianAssetsOwner> assetsOwnersById = russianAssetsOwnerRepository.findAllById(accountCashDTOs
+                        .stream()
+                        .map(AccountCashDTO::getAssetsOwnerID)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(RussianAssetsOwner::getId, Function.identity()));
+        Map<AccountCashKey, Long> batchAmountsByKey = new LinkedHashMap<>();
+
+        for (int i = 0; i < accountCashDTOs.size(); i++) {
+            AccountCashDTO accountCashDTO = accountCashDTOs.get(i);
+
+            if (!accountsById.containsKey(accountCashDTO.getAccountID())
+                    || !assetsOwnersById.containsKey(accountCashDTO.getAssetsOwnerID())) {
+                throw new NoSuchElementException(String.format(NOT_FOUND_CASH_BATCH_ITEM_WARNING, i + 1));
+            }
+            batchAmountsByKey.merge(AccountCashKey.ofOperation(accountCashDTO), accountCashDTO.getAmount(),
+                    Math::addExact);
+        }
+
+        Map<AccountCashKey, AccountCash> accountCashesByKey = accountCashRepository
+                .findByAccountIdInAndAssetsOwnerIdIn(accountsById.keySet(), assetsOwnersById.keySet()).stream()
+                .collect(Collectors.toMap(AccountCashKey::ofAccountCash, Function.identity()));
+        List<AccountCash> newAccountCashes = new ArrayList<>();
+
+        for (AccountCashKey accountCashKey : batchAmountsByKey.keySet()) {
+            if (!accountCashesByKey.containsKey(accountCashKey)) {
+                AccountCash newAccountCash = new AccountCash(accountsById.get(accountCashKey.accountId()),
+                        accountCashKey.assetCurrency(), assetsOwnersById.get(accountCashKey.assetsOwnerId()));
+
+                newAccountCashes.add(newAccountCash);
+                accountCashesByKey.put(accountCashKey, newAccountCash);
+            }
+        }
+        accountCashRepository.saveAll(newAccountCashes);
+        checkEnoughCashToWithdraw(accountCashDTOs, accountCashesByKey);
+        cashMovementRepository.saveAll(accountCashDTOs.stream()
+                .map(accountCashDTO -> new CashMovement(accountCashesByKey.get(
+                        AccountCashKey.ofOperation(accountCashDTO)), accountCashDTO.getAmount()))
+                .toList());
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<Long, AccountCash> updatedAccountCashesById = accountCashRepository.findAllById(batchAmountsByKey.keySet()
+                        .stream()
+                        .map(accountCashKey -> accountCashesByKey.get(accountCashKey).getId())
+                        .toList()).stream()
+                .collect(Collectors.toMap(AccountCash::getId, Function.identity()));
+
+        return batchAmountsByKey.keySet().stream()
+                .map(accountCashKey -> updatedAccountCashesById.get(accountCashesByKey.get(accountCashKey).getId()))
+                .toList();
+    }
+
+    /**
+     * Ищет ранее проведённую операцию по ключу идемпотентности: сначала в кэше, затем в БД.
+     * Найденные в БД ключи кладутся в кэш - повторы обычно идут сериями.
+     * @param idempotencyKey Ключ идемпотентности.
+     * @return Ключ проведённой операции, либо null, если операция с этим ключом не проводилась.
+     * @since 0.0.1-alpha
+     */
+    private CashOperationIdempotencyKey findProcessedOperationKey(String idempotencyKey) {
+        Cache processedOperationKeysCache = cacheManager.getCache(
+                CacheConfig.CASH_OPERATION_IDEMPOTENCY_KEYS_CACHE);
+        CashOperationIdempotencyKey processedOperationKey = processedOperationKeysCache == null ? null
+                : processedOperationKeysCache.get(idempotencyKey, CashOperationIdempotencyKey.class);
+
+        if (processedOperationKey == null) {
+            processedOperationKey = cashOperationIdempotencyKeyRepository.findById(idempotencyKey).orElse(null);
+
+            if (processedOperationKey != null && processedOperationKeysCache != null) {
+                processedOperationKeysCache.put(idempotencyKey, processedOperationKey);
+            }
+        }
+        return processedOperationKey;
+    }
+
+    /**
+     * @param accountCashDTO Данные операции.
+     * @return Параметры операции одной строкой - для сравнения повторов с исходной операцией.
+     * @since 0.0.1-alpha
+     */
+    private String getRequestFingerprint(AccountCashDTO accountCashDTO) {
+        return String.join(":", String.valueOf(accountCashDTO.getAccountID()),
+                String.valueOf(accountCashDTO.getAssetCurrency()), String.valueOf(accountCashDTO.getAssetsOwnerID()),
+                String.valueOf(accountCashDTO.getAmount()));
+    }
+
+    /**
+     * Создаёт пустую строку остатка при первой операции с ним.
+     * @param accountCashDTO Данные операции.
+     * @return Созданный остаток.
+     * @since 0.0.1-alpha
+     */
+    private AccountCash createCash(AccountCashDTO accountCashDTO) {
         Account accountFromDTO = accountRepository.findById(accountCashDTO.getAccountID()).orElseThrow();
-        AssetCurrency assetCurrencyFromDTO = accountCashDTO.getAssetCurrency();
         RussianAssetsOwner assetsOwnerFromDTO = russianAssetsOwnerRepository.findById(accountCashDTO.getAssetsOwnerID())
                 .orElseThrow();
-        Float amountFromDTO = accountCashDTO.getAmount();
-        AccountCash accountCashToWorkWith = accountCashRepository.findByAccountAndAssetCurrencyAndAssetsOwner(
-                accountFromDTO, assetCurrencyFromDTO, assetsOwnerFromDTO);
 
-        if (accountCashToWorkWith == null) {
-            accountCashAtomicReference = new AtomicReference<>(new AccountCash(accountFromDTO, assetCurrencyFromDTO,
-                    assetsOwnerFromDTO, amountFromDTO));
-        } else {
-            accountCashAtomicReference = new AtomicReference<>(accountCashToWorkWith);
-            accountCashAtomicReference.get().setAmount(accountCashToWorkWith.getAmount() + amountFromDTO);
+        return accountCashRepository.saveAndFlush(new AccountCash(accountFromDTO, accountCashDTO.getAssetCurrency(),
+                assetsOwnerFromDTO));
+    }
+
+    /**
+     * Проверяет, что после списания остаток не станет отрицательным. Остаток должен быть заблокирован, а сумма
+     * движений считается отдельным запросом уже после блокировки - так в неё попадут все завершённые операции.
+     * @param accountCash Остаток, с которого списываются средства.
+     * @param amountToWithdraw Списание - отрицательная сумма в минимальных единицах валюты.
+     * @throws IllegalArgumentException Если остатка не хватает для списания.
+     * @since 0.0.1-alpha
+     */
+    private void checkEnoughCashToWithdraw(AccountCash accountCash, Long amountToWithdraw) {
+        long currentAmount = Math.addExact(accountCash.getSnapshotAmount(),
+                cashMovementRepository.sumNotCompactedAmounts(accountCash.getId()));
+
+        if (Math.addExact(currentAmount, amountToWithdraw) < 0) {
+            throw new IllegalArgumentException(NOT_ENOUGH_CASH_WARNING);
+        }
+    }
+
+    /**
+     * Проверяет размер пакета и каждую операцию пакета.
+     * @param accountCashDTOs Операции пакета.
+     * @throws IllegalArgumentException Если операций больше account-cash-batch.max-batch-size, либо какая-то
+     * операция не валидна. В сообщении указывается номер операции.
+     * @since 0.0.1-alpha
+     */
+    private void checkCashBatch(List<AccountCashDTO> accountCashDTOs) {
+        if (accountCashDTOs.size() > batchMaxSize) {
+            throw new IllegalArgumentException(String.format(TOO_BIG_CASH_BATCH_WARNING, batchMaxSize));
+        }
+        for (int i = 0; i < accountCashDTOs.size(); i++) {
+            Set<ConstraintViolation<AccountCashDTO>> violations = validator.validate(accountCashDTOs.get(i));
+
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(String.format(NOT_VALID_CASH_BATCH_ITEM_WARNING, i + 1,
+                        violations.stream()
+                                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                .collect(Collectors.joining(", "))));
+            }
+        }
+    }
+
+    /**
+     * Пакетная проверка достаточности средств. Остатки, по которым в пакете есть списания, блокируются
+     * по возрастанию id, а их текущие суммы считаются одним запросом уже после блокировки. Затем операции
+     * проходятся в порядке пакета: остаток не должен уйти в минус ни после одной операции, даже если пополнения
+     * позже в пакете покрыли бы списание.
+     * @param accountCashDTOs Операции в порядке их проведения.
+     * @param accountCashesByKey Остатки пакета.
+     * @throws IllegalArgumentException Если какого-то остатка не хватает для списания. В сообщении указывается
+     * номер операции.
+     * @since 0.0.1-alpha
+     */
+    private void checkEnoughCashToWithdraw(List<AccountCashDTO> accountCashDTOs,
+                                           Map<AccountCashKey, AccountCash> accountCashesByKey) {
+        Set<Long> withdrawnAccountCashIds = accountCashDTOs.stream()
+                .filter(accountCashDTO -> accountCashDTO.getAmount() < 0)
+                .map(accountCashDTO -> accountCashesByKey.get(AccountCashKey.ofOperation(accountCashDTO)).getId())
+                .collect(Collectors.toSet());
+
+        if (withdrawnAccountCashIds.isEmpty()) {
+            return;
+        }
+        accountCashRepository.findWithLockByIdInOrderByIdAsc(withdrawnAccountCashIds);
+
+        Map<Long, Long> runningAmountsById = accountCashRepository.findCurrentAmounts(withdrawnAccountCashIds).stream()
+                .collect(Collectors.toMap(AccountCashRepository.AccountCashAmount::getAccountCashId,
+                        AccountCashRepository.AccountCashAmount::getAmount));
+
+        for (int i = 0; i < accountCashDTOs.size(); i++) {
+            AccountCashDTO accountCashDTO = accountCashDTOs.get(i);
+            Long accountCashId = accountCashesByKey.get(AccountCashKey.ofOperation(accountCashDTO)).getId();
+
+            if (runningAmountsById.containsKey(accountCashId)
+                    && runningAmountsById.merge(accountCashId, accountCashDTO.getAmount(), Math::addExact) < 0) {
+                throw new IllegalArgumentException(String.format(NOT_ENOUGH_CASH_BATCH_ITEM_WARNING, i + 1));
+            }
+        }
+    }
+
+    /**
+     * Ключ остатка - уникальная тройка счёта, валюты и собственника.
+     */
+    private record AccountCashKey(Long accountId, AssetCurrency assetCurrency, Long assetsOwnerId) {
+        private static AccountCashKey ofOperation(AccountCashDTO accountCashDTO) {
+            return new AccountCashKey(accountCashDTO.getAccountID(), accountCashDTO.getAssetCurrency(),
+                    accountCashDTO.getAssetsOwnerID());
+        }
+
+        private static AccountCashKey ofAccountCash(AccountCash accountCash) {
+            return new AccountCashKey(accountCash.getAccount().getId(), accountCash.getAssetCurrency(),
+                    accountCash.getAssetsOwner().getId());
         }
-        return accountCashRepository.save(accountCashAtomicReference.get());
     }
 }
@@ -4,6 +4,7 @@ import fund.data.assets.dto.AccountDTO;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.repository.AccountRepository;
 import fund.data.assets.service.AccountService;
+import fund.data.assets.utils.KeysetPagination;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicReference;
 @RequiredArgsConstructor
 public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
+    private final KeysetPagination keysetPagination;
 
     @Override
     public Account getAccount(Long id) {
@@ -31,8 +33,9 @@ public class AccountServiceImpl implements AccountService {
     }
 
     @Override
-    public List<Account> getAccounts() {
-        return accountRepository.findAll();
+    public List<Account> getAccounts(Long afterId, Integer pageSize) {
+        return accountRepository.findByIdGreaterThan(keysetPagination.getAfterId(afterId),
+                keysetPagination.getPageRequest(pageSize));
     }
 
     @Override
@@ -1,16 +1,35 @@
 package fund.data.assets.service.impl;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fund.data.assets.dto.FixedRateBondHoldingDTO;
 import fund.data.assets.model.asset.exchange.FixedRateBond;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.repository.FixedRateBondRepository;
 import fund.data.assets.service.FixedRateBondService;
+import fund.data.assets.utils.KeysetPagination;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.BondYieldType;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.ISINHoldings;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.IssuerAggregate;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.MaturityBucket;
+import fund.data.assets.utils.analytics.FixedRateBondMetrics;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import java.time.LocalDate;
 
 import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 /**
  * Реализация сервиса для обслуживания облигаций с фиксированным купоном.
@@ -21,7 +40,24 @@ import java.util.concurrent.atomic.AtomicReference;
 @Service
 @RequiredArgsConstructor
 public class FixedRateBondServiceImpl implements FixedRateBondService {
+    public static final byte NDJSON_LINE_SEPARATOR = '\n';
+    public static final String NOT_POSITIVE_TOP_LIMIT_WARNING = "Top bonds limit must be positive!";
     private final FixedRateBondRepository fixedRateBondRepository;
+    private final KeysetPagination keysetPagination;
+    private final ObjectMapper objectMapper;
+    private final FixedRateBondAnalyticsSnapshot fixedRateBondAnalyticsSnapshot;
+    @Value("${bond-analytics.default-top-limit:20}")
+    private Integer defaultTopLimit;
+    @Value("${bond-analytics.max-top-limit:500}")
+    private Integer maxTopLimit;
+    @Value("${bond-analytics.default-maturity-bucket-days:365}")
+    private Integer defaultMaturityBucketDays;
+    @Value("${bond-analytics.max-maturity-bucket-days:3650}")
+    private Integer maxMaturityBucketDays;
+    @Value("${bond-analytics.default-maturity-buckets-count:5}")
+    private Integer defaultMaturityBucketsCount;
+    @Value("${bond-analytics.max-maturity-buckets-count:100}")
+    private Integer maxMaturityBucketsCount;
 
     @Override
     public FixedRateBond getFixedRateBond(Long id) {
@@ -29,8 +65,96 @@ public class FixedRateBondServiceImpl implements FixedRateBondService {
     }
 
     @Override
-    public List<FixedRateBond> getFixedRateBonds() {
-        return fixedRateBondRepository.findAll();
+    public List<FixedRateBond> getFixedRateBonds(Long afterId, Integer pageSize) {
+        return fixedRateBondRepository.findByIdGreaterThan(keysetPagination.getAfterId(afterId),
+                keysetPagination.getPageRequest(pageSize));
+    }
+
+    /**
+     * Облигации выпуска у всех собственников и на всех счетах - одним запросом по индексу asset_isin_idx.
+     * @param iSIN ISIN выпуска.
+     * @return Облигации выпуска по возрастанию id, либо пустой список, если их нет на учёте.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public List<FixedRateBond> getFixedRateBondsByISIN(String iSIN) {
+        return fixedRateBondRepository.findByISIN(iSIN);
+    }
+
+    /**
+     * Позиция по выпуску считается запросом к БД, а не по снимку: снимок может отставать от БД.
+     * @param iSIN ISIN выпуска.
+     * @return Позиция по выпуску. Если облигаций выпуска нет на учёте - с нулевыми количествами.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public ISINHoldings getFixedRateBondHoldingsByISIN(String iSIN) {
+        FixedRateBondRepository.ISINTotals iSINTotals = fixedRateBondRepository.findISINTotals(iSIN);
+
+        return new ISINHoldings(iSIN, Math.toIntExact(iSINTotals.getHoldingsCount()),
+                iSINTotals.getTotalAssetCount());
+    }
+
+    /**
+     * Пишет все облигации вместе с собственником и счётом в формате NDJSON - по одному JSON-объекту на строку.
+     * Строки читаются из БД потоком и сразу пишутся в ответ, поэтому в памяти одновременно находится лишь
+     * порция строк, полученная драйвером БД.
+     * @param outputStream Поток, куда пишется выгрузка.
+     * @throws UncheckedIOException Если запись в поток не удалась - например, клиент разорвал соединение.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportFixedRateBondHoldings(OutputStream outputStream) {
+        try (Stream<FixedRateBondHoldingDTO> holdings = fixedRateBondRepository.streamAllHoldings()) {
+            holdings.forEach(holding -> {
+                try {
+                    outputStream.write(objectMapper.writeValueAsBytes(holding));
+                    outputStream.write(NDJSON_LINE_SEPARATOR);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * @param yieldType Вид доходности, по умолчанию - простая доходность к погашению.
+     * @param limit Сколько облигаций вернуть. Если не передан - bond-analytics.default-top-limit, а если больше
+     * bond-analytics.max-top-limit - максимальное значение, чтобы размер ответа не задавал клиент.
+     * @return Показатели облигаций по убыванию доходности.
+     * @throws IllegalArgumentException Если limit не положителен.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public List<FixedRateBondMetrics> getTopFixedRateBondsByYield(BondYieldType yieldType, Integer limit) {
+        if (limit != null && limit <= 0) {
+            throw new IllegalArgumentException(NOT_POSITIVE_TOP_LIMIT_WARNING);
+        }
+        return fixedRateBondAnalyticsSnapshot.findTopByYield(
+                yieldType != null ? yieldType : BondYieldType.SIMPLE_YIELD_TO_MATURITY,
+                limit != null ? Math.min(limit, maxTopLimit) : defaultTopLimit);
+    }
+
+    /**
+     * @param bucketDays Длина интервала в днях, по умолчанию - bond-analytics.default-maturity-bucket-days.
+     * Длиннее bond-analytics.max-maturity-bucket-days дней интервал не делается.
+     * @param bucketsCount Количество интервалов, по умолчанию - bond-analytics.default-maturity-buckets-count.
+     * Больше bond-analytics.max-maturity-buckets-count интервалов не выдаётся.
+     * @return Интервалы по возрастанию дат погашения.
+     * @throws IllegalArgumentException Если длина или количество интервалов не положительны.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public List<MaturityBucket> getFixedRateBondsMaturityBuckets(Integer bucketDays, Integer bucketsCount) {
+        return fixedRateBondAnalyticsSnapshot.countByMaturityBuckets(LocalDate.now(),
+                bucketDays != null ? Math.min(bucketDays, maxMaturityBucketDays) : defaultMaturityBucketDays,
+                bucketsCount != null ? Math.min(bucketsCount, maxMaturityBucketsCount) : defaultMaturityBucketsCount);
+    }
+
+    @Override
+    public List<IssuerAggregate> getFixedRateBondsIssuerAggregates() {
+        return fixedRateBondAnalyticsSnapshot.aggregateByIssuer();
     }
 
 //    @Override
@@ -1,25 +1,49 @@
 package fund.data.assets.service.impl;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import fund.data.assets.dto.owner.ContactDataRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.PersonalDataRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.NewRussianAssetsOwnerDTO;
 import fund.data.assets.model.owner.RussianAssetsOwner;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 import fund.data.assets.service.RussianAssetsOwnerService;
+import fund.data.assets.utils.BlindIndexCalculator;
 import fund.data.assets.utils.enums.RussianSexEnum;
+import fund.data.assets.utils.KeysetPagination;
+import fund.data.assets.utils.OptimisticLockTemplate;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 import lombok.RequiredArgsConstructor;
 
+import org.jasypt.encryption.StringEncryptor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Реализация сервиса для обслуживания владельца активов с гражданством РФ.
@@ -34,7 +58,31 @@ public class RussianAssetsOwnerServiceImpl implements RussianAssetsOwnerService
     public static final String WRONG_DATES_WARNING = "This is error - issueDate doesn't before birthDate!";
     public static final String NOT_UNIQUE_RF_PASSPORT_WARNING = "This is error - client with this RF passport already" +
             " added into system!";
+    public static final String NOT_UNIQUE_EMAIL_WARNING = "This Email address is not unique in this table!";
+    public static final String NOT_UNIQUE_MOBILE_PHONE_WARNING = "This mobile phone is not unique in this table!";
+    public static final String NOT_VALID_IMPORT_FORMAT_WARNING = "This is error - import data isn't valid NDJSON" +
+            " of russian assets owners!";
+    public static final String TOO_BIG_IMPORT_BATCH_WARNING = "This is error - import batch is bigger than %d" +
+            " russian assets owners!";
+    public static final String NOT_VALID_IMPORT_LINE_WARNING = "This is error - russian assets owner in line %d" +
+            " isn't valid: %s";
+    public static final String NOT_UNIQUE_IMPORT_EMAIL_WARNING = "This is error - email of russian assets owner" +
+            " in line %d isn't unique!";
+    public static final String NOT_UNIQUE_IMPORT_MOBILE_PHONE_WARNING = "This is error - mobile phone number of" +
+            " russian assets owner in line %d isn't unique!";
+    public static final String NOT_UNIQUE_IMPORT_RF_PASSPORT_WARNING = "This is error - RF passport of russian" +
+            " assets owner in line %d isn't unique!";
     private final RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    private final BlindIndexCalculator blindIndexCalculator;
+    private final StringEncryptor fieldStringEncryptor;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final KeysetPagination keysetPagination;
+    private final OptimisticLockTemplate optimisticLockTemplate;
+    @Value("${owners-import.max-batch-size:10000}")
+    private int importMaxBatchSize;
+    @Value("${owners-import.lookup-chunk-size:1000}")
+    private int importLookupChunkSize;
 
     @Override
     public RussianAssetsOwner getRussianAssetsOwner(Long id) {
@@ -42,13 +90,228 @@ public class RussianAssetsOwnerServiceImpl implements RussianAssetsOwnerService
     }
 
     @Override
-    public List<RussianAssetsOwner> getRussianAssetsOwners() {
-        return russianAssetsOwnerRepository.findAll();
+    public RussianAssetsOwner getRussianAssetsOwnerWithHoldings(Long id) {
+        return russianAssetsOwnerRepository.findWithAssetRelationshipsById(id).orElseThrow();
+    }
+
+    @Override
+    public List<RussianAssetsOwner> getRussianAssetsOwners(Long afterId, Integer pageSize) {
+        return russianAssetsOwnerRepository.findByIdGreaterThan(keysetPagination.getAfterId(afterId),
+                keysetPagination.getPageRequest(pageSize));
     }
 
+    /**
+     * Уникальность паспорта, email и телефона гарантируют ограничения уникальности слепых индексов в БД, потому
+     * строгая изоляция не нужна.
+     * @since 0.0.1-alpha
+     */
     @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ, rollbackFor = {Exception.class})
+    @Transactional(isolation = Isolation.READ_COMMITTED, rollbackFor = {Exception.class})
     public RussianAssetsOwner createRussianAssetsOwner(NewRussianAssetsOwnerDTO newRussianAssetsOwnerDTO) {
+        AtomicReference<RussianAssetsOwner> atomicRussianAssetsOwner = new AtomicReference<>(
+                buildRussianAssetsOwner(newRussianAssetsOwnerDTO));
+
+        checkUniquenessRFPassportFields(atomicRussianAssetsOwner.get().getPassportSeries(),
+                atomicRussianAssetsOwner.get().getPassportNumber(), atomicRussianAssetsOwner.get().getPlaceOfBirth(),
+                atomicRussianAssetsOwner.get().getPlaceOfPassportGiven(), atomicRussianAssetsOwner.get().getIssueDate(),
+                atomicRussianAssetsOwner.get().getIssuerOrganisationCode());
+
+        return russianAssetsOwnerRepository.save(atomicRussianAssetsOwner.get());
+    }
+
+    /**
+     * Массовый импорт собственников из NDJSON - по одному NewRussianAssetsOwnerDTO на строку.
+     * Вся порция валидируется в памяти, уникальность email, телефонов и паспортов проверяется несколькими
+     * запросами с IN по слепым индексам, поля шифруются параллельно, а сохранение идёт пакетными вставками
+     * (hibernate.jdbc.batch_size). Порция импортируется целиком или не импортируется вовсе.
+     * @param ndjsonInputStream тело запроса в формате NDJSON.
+     * @return id созданных собственников в порядке строк импорта.
+     * @throws IllegalArgumentException Если данные не NDJSON, порция слишком велика, какая-то строка не валидна
+     * или не уникальна. В сообщении указывается номер строки.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    @Transactional(rollbackFor = {Exception.class})
+    public List<Long> importRussianAssetsOwners(InputStream ndjsonInputStream) {
+        List<NewRussianAssetsOwnerDTO> newRussianAssetsOwnerDTOs = readImportBatch(ndjsonInputStream);
+
+        for (int i = 0; i < newRussianAssetsOwnerDTOs.size(); i++) {
+            Set<ConstraintViolation<NewRussianAssetsOwnerDTO>> violations = validator.validate(
+                    newRussianAssetsOwnerDTOs.get(i));
+
+            if (!violations.isEmpty()) {
+                throw new IllegalArgumentException(String.format(NOT_VALID_IMPORT_LINE_WARNING, i + 1,
+                        violations.stream()
+                                .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                                .collect(Collectors.joining(", "))));
+            }
+        }
+
+        List<RussianAssetsOwner> newRussianAssetsOwners = IntStream.range(0, newRussianAssetsOwnerDTOs.size())
+                .parallel()
+                .mapToObj(i -> {
+                    RussianAssetsOwner newRussianAssetsOwner;
+
+                    try {
+                        newRussianAssetsOwner = buildRussianAssetsOwner(newRussianAssetsOwnerDTOs.get(i));
+                    } catch (DateTimeParseException | IllegalArgumentException notValidDatesException) {
+                        throw new IllegalArgumentException(String.format(NOT_VALID_IMPORT_LINE_WARNING, i + 1,
+                                notValidDatesException.getMessage()), notValidDatesException);
+                    }
+                    newRussianAssetsOwner.encryptSensitiveFields(fieldStringEncryptor);
+
+                    return newRussianAssetsOwner;
+                })
+                .toList();
+
+        checkImportBatchUniqueness(newRussianAssetsOwners, RussianAssetsOwner::getEmailBlindIndex,
+                russianAssetsOwnerRepository::findExistingEmailBlindIndexes, NOT_UNIQUE_IMPORT_EMAIL_WARNING);
+        checkImportBatchUniqueness(newRussianAssetsOwners, RussianAssetsOwner::getMobilePhoneBlindIndex,
+                russianAssetsOwnerRepository::findExistingMobilePhoneBlindIndexes,
+                NOT_UNIQUE_IMPORT_MOBILE_PHONE_WARNING);
+        checkImportBatchUniqueness(newRussianAssetsOwners, RussianAssetsOwner::getPassportFingerprint,
+                russianAssetsOwnerRepository::findExistingPassportFingerprints, NOT_UNIQUE_IMPORT_RF_PASSPORT_WARNING);
+
+        return russianAssetsOwnerRepository.saveAll(newRussianAssetsOwners).stream()
+                .map(RussianAssetsOwner::getId)
+                .toList();
+    }
+
+    /**
+     * Изменение идёт при READ_COMMITTED, одновременное изменение того же собственника обнаруживается по версии
+     * строки и отклоняется с 409 Conflict, см. {@link OptimisticLockTemplate}. Новый паспорт не должен совпадать
+     * с паспортом другого собственника: это проверяется запросом по отпечатку паспорта, а гонку одновременных
+     * изменений закрывает ограничение уникальности отпечатка в БД.
+     * @throws IllegalArgumentException Если паспорт совпадает с паспортом другого собственника.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public RussianAssetsOwner updateRussianAssetsOwnerPersonalData(Long id, PersonalDataRussianAssetsOwnerDTO
+            personalDataRussianAssetsOwnerDTO) {
+        try {
+            return updatePersonalData(id, personalDataRussianAssetsOwnerDTO);
+        } catch (DataIntegrityViolationException notUniquePassportException) {
+            throw new IllegalArgumentException(NOT_UNIQUE_RF_PASSPORT_WARNING, notUniquePassportException);
+        }
+    }
+
+    /**
+     * Изменение персональных данных собственника, см. {@link #updateRussianAssetsOwnerPersonalData}.
+     * @param id id собственника.
+     * @param personalDataRussianAssetsOwnerDTO новые персональные данные.
+     * @return изменённый собственник.
+     * @throws IllegalArgumentException Если паспорт совпадает с паспортом другого собственника.
+     * @since 0.0.1-alpha
+     */
+    private RussianAssetsOwner updatePersonalData(Long id, PersonalDataRussianAssetsOwnerDTO
+            personalDataRussianAssetsOwnerDTO) {
+        return optimisticLockTemplate.execute("russianAssetsOwner.updatePersonalData", () -> {
+            AtomicReference<RussianAssetsOwner> atomicRussianAssetsOwnerToUpdate = new AtomicReference<>(
+                    russianAssetsOwnerRepository.findById(id).orElseThrow()
+            );
+
+            atomicRussianAssetsOwnerToUpdate.get().setName(personalDataRussianAssetsOwnerDTO.getName().get());
+            atomicRussianAssetsOwnerToUpdate.get().setSurname(personalDataRussianAssetsOwnerDTO.getSurname().get());
+            atomicRussianAssetsOwnerToUpdate.get().setPatronymic(personalDataRussianAssetsOwnerDTO
+                    .getPatronymic().get());
+            atomicRussianAssetsOwnerToUpdate.get().setPassportSeries(personalDataRussianAssetsOwnerDTO
+                    .getPassportSeries().get());
+            atomicRussianAssetsOwnerToUpdate.get().setPassportNumber(personalDataRussianAssetsOwnerDTO
+                    .getPassportNumber().get());
+            atomicRussianAssetsOwnerToUpdate.get().setPlaceOfPassportGiven(personalDataRussianAssetsOwnerDTO
+                    .getPlaceOfPassportGiven().get());
+            atomicRussianAssetsOwnerToUpdate.get().setIssueDate(parseDatePassportFormatIntoLocalDate(
+                    personalDataRussianAssetsOwnerDTO.getIssueDate().get()));
+            atomicRussianAssetsOwnerToUpdate.get().setIssuerOrganisationCode(personalDataRussianAssetsOwnerDTO
+                    .getIssuerOrganisationCode().get());
+            atomicRussianAssetsOwnerToUpdate.get().setPassportFingerprint(blindIndexCalculator
+                    .calculatePassportFingerprint(
+                    atomicRussianAssetsOwnerToUpdate.get().getPassportSeries(),
+                    atomicRussianAssetsOwnerToUpdate.get().getPassportNumber(),
+                    atomicRussianAssetsOwnerToUpdate.get().getPlaceOfBirth(),
+                    atomicRussianAssetsOwnerToUpdate.get().getPlaceOfPassportGiven(),
+                    atomicRussianAssetsOwnerToUpdate.get().getIssueDate(),
+                    atomicRussianAssetsOwnerToUpdate.get().getIssuerOrganisationCode()));
+
+            if (russianAssetsOwnerRepository.existsByPassportFingerprintAndIdNot(
+                    atomicRussianAssetsOwnerToUpdate.get().getPassportFingerprint(), id)) {
+                throw new IllegalArgumentException(NOT_UNIQUE_RF_PASSPORT_WARNING);
+            }
+            return russianAssetsOwnerRepository.save(atomicRussianAssetsOwnerToUpdate.get());
+        });
+    }
+
+    /**
+     * Изменение идёт при READ_COMMITTED, одновременное изменение того же собственника обнаруживается по версии
+     * строки и отклоняется с 409 Conflict, см. {@link OptimisticLockTemplate}. Новые email и номер телефона
+     * не должны совпадать с контактами другого собственника: это проверяется запросами по слепым индексам, а гонку
+     * одновременных изменений закрывают ограничения уникальности слепых индексов в БД.
+     * @throws IllegalArgumentException Если email или номер телефона совпадает с контактами другого собственника.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public RussianAssetsOwner updateRussianAssetsOwnerContactData(Long id, ContactDataRussianAssetsOwnerDTO
+            contactDataRussianAssetsOwnerDTO) {
+        String emailBlindIndex = blindIndexCalculator.calculateEmailBlindIndex(
+                contactDataRussianAssetsOwnerDTO.getEmail().get());
+
+        try {
+            return updateContactData(id, contactDataRussianAssetsOwnerDTO, emailBlindIndex);
+        } catch (DataIntegrityViolationException notUniqueContactDataException) {
+            throw new IllegalArgumentException(emailBlindIndex != null
+                    && russianAssetsOwnerRepository.existsByEmailBlindIndexAndIdNot(emailBlindIndex, id)
+                    ? NOT_UNIQUE_EMAIL_WARNING : NOT_UNIQUE_MOBILE_PHONE_WARNING, notUniqueContactDataException);
+        }
+    }
+
+    /**
+     * Изменение контактных данных собственника, см. {@link #updateRussianAssetsOwnerContactData}.
+     * @param id id собственника.
+     * @param contactDataRussianAssetsOwnerDTO новые контактные данные.
+     * @param emailBlindIndex слепой индекс нового email, либо null, если email не указан.
+     * @return изменённый собственник.
+     * @throws IllegalArgumentException Если email или номер телефона совпадает с контактами другого собственника.
+     * @since 0.0.1-alpha
+     */
+    private RussianAssetsOwner updateContactData(Long id, ContactDataRussianAssetsOwnerDTO
+            contactDataRussianAssetsOwnerDTO, String emailBlindIndex) {
+        return optimisticLockTemplate.execute("russianAssetsOwner.updateContactData", () -> {
+            AtomicReference<RussianAssetsOwner> atomicRussianAssetsOwnerToUpdate = new AtomicReference<>(
+                    russianAssetsOwnerRepository.findById(id).orElseThrow()
+            );
+            String mobilePhoneNumber = addRussianNumberPrefixPhoneNumber(contactDataRussianAssetsOwnerDTO
+                    .getMobilePhoneNumber().get());
+            String mobilePhoneBlindIndex = blindIndexCalculator.calculateMobilePhoneBlindIndex(mobilePhoneNumber);
+
+            if (emailBlindIndex != null
+                    && russianAssetsOwnerRepository.existsByEmailBlindIndexAndIdNot(emailBlindIndex, id)) {
+                throw new IllegalArgumentException(NOT_UNIQUE_EMAIL_WARNING);
+            }
+            if (russianAssetsOwnerRepository.existsByMobilePhoneBlindIndexAndIdNot(mobilePhoneBlindIndex, id)) {
+                throw new IllegalArgumentException(NOT_UNIQUE_MOBILE_PHONE_WARNING);
+            }
+            atomicRussianAssetsOwnerToUpdate.get().setEmail(contactDataRussianAssetsOwnerDTO.getEmail().get());
+            atomicRussianAssetsOwnerToUpdate.get().setEmailBlindIndex(emailBlindIndex);
+            atomicRussianAssetsOwnerToUpdate.get().setMobilePhoneNumber(mobilePhoneNumber);
+            atomicRussianAssetsOwnerToUpdate.get().setMobilePhoneBlindIndex(mobilePhoneBlindIndex);
+
+            return russianAssetsOwnerRepository.save(atomicRussianAssetsOwnerToUpdate.get());
+        });
+    }
+
+    @Override
+    public void deleteRussianAssetsOwner(Long id) {
+        russianAssetsOwnerRepository.deleteById(id);
+    }
+
+    /**
+     * Собирает нового собственника из DTO вместе со слепыми индексами. Уникальность не проверяет.
+     * @param newRussianAssetsOwnerDTO данные нового собственника.
+     * @return новый, ещё не сохранённый собственник.
+     * @throws IllegalArgumentException Если паспорт выдан раньше даты рождения.
+     * @since 0.0.1-alpha
+     */
+    private RussianAssetsOwner buildRussianAssetsOwner(NewRussianAssetsOwnerDTO newRussianAssetsOwnerDTO) {
         String name = newRussianAssetsOwnerDTO.getName();
         String surname = newRussianAssetsOwnerDTO.getSurname();
         LocalDate birthDate = parseDatePassportFormatIntoLocalDate(newRussianAssetsOwnerDTO.getBirthDate());
@@ -63,62 +326,87 @@ public class RussianAssetsOwnerServiceImpl implements RussianAssetsOwnerService
         LocalDate issueDate = parseDatePassportFormatIntoLocalDate(newRussianAssetsOwnerDTO.getIssueDate());
         String issuerOrganisationCode = newRussianAssetsOwnerDTO.getIssuerOrganisationCode();
 
-        checkUniquenessRFPassportFields(passportSeries, passportNumber, placeOfBirth, placeOfPassportGiven, issueDate,
-                issuerOrganisationCode);
         if (ChronoUnit.DAYS.between(birthDate, issueDate) < 0) {
             throw new IllegalArgumentException(WRONG_DATES_WARNING);
         }
 
-        AtomicReference<RussianAssetsOwner> atomicRussianAssetsOwner = new AtomicReference<>(new RussianAssetsOwner(
-                name, surname, birthDate, email, patronymic, sex, mobilePhoneNumber, passportSeries, passportNumber,
-                placeOfBirth, placeOfPassportGiven, issueDate, issuerOrganisationCode));
+        RussianAssetsOwner newRussianAssetsOwner = new RussianAssetsOwner(name, surname, birthDate, email, patronymic,
+                sex, mobilePhoneNumber, passportSeries, passportNumber, placeOfBirth, placeOfPassportGiven, issueDate,
+                issuerOrganisationCode);
+
+        newRussianAssetsOwner.setEmailBlindIndex(blindIndexCalculator.calculateEmailBlindIndex(email));
+        newRussianAssetsOwner.setMobilePhoneBlindIndex(blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                mobilePhoneNumber));
+        newRussianAssetsOwner.setPassportFingerprint(blindIndexCalculator.calculatePassportFingerprint(
+                passportSeries, passportNumber, placeOfBirth, placeOfPassportGiven, issueDate, issuerOrganisationCode));
 
-        return russianAssetsOwnerRepository.save(atomicRussianAssetsOwner.get());
+        return newRussianAssetsOwner;
     }
 
-    @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ, rollbackFor = {Exception.class})
-    public RussianAssetsOwner updateRussianAssetsOwnerPersonalData(Long id, PersonalDataRussianAssetsOwnerDTO
-            personalDataRussianAssetsOwnerDTO) {
-        AtomicReference<RussianAssetsOwner> atomicRussianAssetsOwnerToUpdate = new AtomicReference<>(
-                russianAssetsOwnerRepository.findById(id).orElseThrow()
-        );
-
-        atomicRussianAssetsOwnerToUpdate.get().setName(personalDataRussianAssetsOwnerDTO.getName().get());
-        atomicRussianAssetsOwnerToUpdate.get().setSurname(personalDataRussianAssetsOwnerDTO.getSurname().get());
-        atomicRussianAssetsOwnerToUpdate.get().setPatronymic(personalDataRussianAssetsOwnerDTO.getPatronymic().get());
-        atomicRussianAssetsOwnerToUpdate.get().setPassportSeries(personalDataRussianAssetsOwnerDTO
-                .getPassportSeries().get());
-        atomicRussianAssetsOwnerToUpdate.get().setPassportNumber(personalDataRussianAssetsOwnerDTO
-                .getPassportNumber().get());
-        atomicRussianAssetsOwnerToUpdate.get().setPlaceOfPassportGiven(personalDataRussianAssetsOwnerDTO
-                .getPlaceOfPassportGiven().get());
-        atomicRussianAssetsOwnerToUpdate.get().setIssueDate(parseDatePassportFormatIntoLocalDate(
-                personalDataRussianAssetsOwnerDTO.getIssueDate().get()));
-        atomicRussianAssetsOwnerToUpdate.get().setIssuerOrganisationCode(personalDataRussianAssetsOwnerDTO
-                .getIssuerOrganisationCode().get());
-
-        return russianAssetsOwnerRepository.save(atomicRussianAssetsOwnerToUpdate.get());
+    /**
+     * Читает порцию импорта из NDJSON.
+     * @param ndjsonInputStream тело запроса.
+     * @return DTO собственников в порядке строк.
+     * @throws IllegalArgumentException Если данные не NDJSON или строк больше owners-import.max-batch-size.
+     * @since 0.0.1-alpha
+     */
+    private List<NewRussianAssetsOwnerDTO> readImportBatch(InputStream ndjsonInputStream) {
+        List<NewRussianAssetsOwnerDTO> newRussianAssetsOwnerDTOs = new ArrayList<>();
+
+        try (MappingIterator<NewRussianAssetsOwnerDTO> iterator = objectMapper
+                .readerFor(NewRussianAssetsOwnerDTO.class)
+                .readValues(ndjsonInputStream)) {
+            while (iterator.hasNextValue()) {
+                if (newRussianAssetsOwnerDTOs.size() == importMaxBatchSize) {
+                    throw new IllegalArgumentException(String.format(TOO_BIG_IMPORT_BATCH_WARNING,
+                            importMaxBatchSize));
+                }
+                newRussianAssetsOwnerDTOs.add(iterator.nextValue());
+            }
+        } catch (IOException exception) {
+            throw new IllegalArgumentException(NOT_VALID_IMPORT_FORMAT_WARNING, exception);
+        }
+        return newRussianAssetsOwnerDTOs;
     }
 
-    @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ, rollbackFor = {Exception.class})
-    public RussianAssetsOwner updateRussianAssetsOwnerContactData(Long id, ContactDataRussianAssetsOwnerDTO
-            contactDataRussianAssetsOwnerDTO) {
-        AtomicReference<RussianAssetsOwner> atomicRussianAssetsOwnerToUpdate = new AtomicReference<>(
-                russianAssetsOwnerRepository.findById(id).orElseThrow()
-        );
+    /**
+     * Проверяет уникальность одного слепого индекса сначала внутри порции импорта, затем - относительно БД.
+     * Запросы к БД идут порциями по owners-import.lookup-chunk-size значений в IN.
+     * @param newRussianAssetsOwners импортируемые собственники.
+     * @param blindIndexGetter получение слепого индекса собственника. Индекс может быть null - например, у email.
+     * @param existingBlindIndexesFinder запрос слепых индексов, которые уже есть в БД.
+     * @param notUniqueWarning сообщение об ошибке с местом для номера строки.
+     * @throws IllegalArgumentException Если индекс не уникален.
+     * @since 0.0.1-alpha
+     */
+    private void checkImportBatchUniqueness(List<RussianAssetsOwner> newRussianAssetsOwners,
+                                            Function<RussianAssetsOwner, String> blindIndexGetter,
+                                            Function<Collection<String>, Set<String>> existingBlindIndexesFinder,
+                                            String notUniqueWarning) {
+        Set<String> batchBlindIndexes = new HashSet<>();
 
-        atomicRussianAssetsOwnerToUpdate.get().setEmail(contactDataRussianAssetsOwnerDTO.getEmail().get());
-        atomicRussianAssetsOwnerToUpdate.get().setMobilePhoneNumber(addRussianNumberPrefixPhoneNumber(
-                contactDataRussianAssetsOwnerDTO.getMobilePhoneNumber().get()));
+        for (int i = 0; i < newRussianAssetsOwners.size(); i++) {
+            String blindIndex = blindIndexGetter.apply(newRussianAssetsOwners.get(i));
 
-        return russianAssetsOwnerRepository.save(atomicRussianAssetsOwnerToUpdate.get());
-    }
+            if (blindIndex != null && !batchBlindIndexes.add(blindIndex)) {
+                throw new IllegalArgumentException(String.format(notUniqueWarning, i + 1));
+            }
+        }
 
-    @Override
-    public void deleteRussianAssetsOwner(Long id) {
-        russianAssetsOwnerRepository.deleteById(id);
+        List<String> blindIndexesToLookup = new ArrayList<>(batchBlindIndexes);
+
+        for (int from = 0; from < blindIndexesToLookup.size(); from += importLookupChunkSize) {
+            Set<String> existingBlindIndexes = existingBlindIndexesFinder.apply(blindIndexesToLookup.subList(from,
+                    Math.min(from + importLookupChunkSize, blindIndexesToLookup.size())));
+
+            if (!existingBlindIndexes.isEmpty()) {
+                for (int i = 0; i < newRussianAssetsOwners.size(); i++) {
+                    if (existingBlindIndexes.contains(blindIndexGetter.apply(newRussianAssetsOwners.get(i)))) {
+                        throw new IllegalArgumentException(String.format(notUniqueWarning, i + 1));
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -149,30 +437,25 @@ public class RussianAssetsOwnerServiceImpl implements RussianAssetsOwnerService
 
     /**
      * Валидация одновременной уникальности новых полей таблицы, определяющих паспорт РФ, реализована не на уровнях
-     * DTO или Entity, а в этом методе, т.к. необходимо работать с частично зашифрованными Jasypt данными, что сложно
-     * легко написать на других уровнях реализации.
+     * DTO или Entity, а в этом методе, т.к. часть полей зашифрована Jasypt. Вместо расшифровки паспортов всех
+     * собственников сравнивается "отпечаток" паспорта - слепой индекс по всем шести полям, потому проверка - это
+     * один индексированный запрос. Гонку одновременных созданий закрывает ограничение уникальности отпечатка в БД.
      * @param passportSeries серия паспорта РФ
      * @param passportNumber номер паспорта РФ
      * @param placeOfBirth место рождения
      * @param placeOfPassportGiven место выдачи паспорта
      * @param issueDate дата выдачи паспорта
      * @param issuerOrganisationCode код организации, выдавшей паспорт
+     * @throws IllegalArgumentException Если собственник с таким паспортом уже есть в системе.
      * @since 0.0.1-alpha
      */
     @Override
     public void checkUniquenessRFPassportFields(String passportSeries, String passportNumber, String placeOfBirth,
                                String placeOfPassportGiven, LocalDate issueDate, String issuerOrganisationCode) {
-        List<RussianAssetsOwner> russianAssetsOwnerList = russianAssetsOwnerRepository.findAll();
-
-        for (RussianAssetsOwner ownerFromDB : russianAssetsOwnerList) {
-            if ((ownerFromDB.getPassportSeries().equals(passportSeries))
-                    && (ownerFromDB.getPassportNumber().equals(passportNumber))
-                    && (ownerFromDB.getPlaceOfBirth().equals(placeOfBirth))
-                    && (ownerFromDB.getPlaceOfPassportGiven().equals(placeOfPassportGiven))
-                    && (ownerFromDB.getIssueDate().equals(issueDate))
-                    && (ownerFromDB.getIssuerOrganisationCode().equals(issuerOrganisationCode))) {
-                throw new IllegalArgumentException(NOT_UNIQUE_RF_PASSPORT_WARNING);
-            }
+        if (russianAssetsOwnerRepository.existsByPassportFingerprint(blindIndexCalculator.calculatePassportFingerprint(
+                passportSeries, passportNumber, placeOfBirth, placeOfPassportGiven, issueDate,
+                issuerOrganisationCode))) {
+            throw new IllegalArgumentException(NOT_UNIQUE_RF_PASSPORT_WARNING);
         }
     }
 }
@@ -1,5 +1,6 @@
 package fund.data.assets.service.impl;
 
+import fund.data.assets.config.CacheConfig;
 import fund.data.assets.dto.common.PercentFloatValueDTO;
 import fund.data.assets.dto.TurnoverCommissionValueDTO;
 import fund.data.assets.model.financial_entities.Account;
@@ -8,9 +9,13 @@ import fund.data.assets.repository.AccountRepository;
 import fund.data.assets.repository.TurnoverCommissionValueRepository;
 import fund.data.assets.service.TurnoverCommissionValueService;
 import fund.data.assets.utils.InputPercentValueStringsFormatter;
+import fund.data.assets.utils.KeysetPagination;
+import fund.data.assets.utils.OptimisticLockTemplate;
 
-import lombok.RequiredArgsConstructor;
-
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,10 +30,25 @@ import java.util.concurrent.atomic.AtomicReference;
  * @author MarkDementev a.k.a JavaMarkDem
  */
 @Service
-@RequiredArgsConstructor
 public class TurnoverCommissionValueServiceImpl implements TurnoverCommissionValueService {
     private final AccountRepository accountRepository;
     private final TurnoverCommissionValueRepository turnoverCommissionValueRepository;
+    private final KeysetPagination keysetPagination;
+    private final OptimisticLockTemplate optimisticLockTemplate;
+    private final Cache commissionPercentValuesCache;
+
+    public TurnoverCommissionValueServiceImpl(AccountRepository accountRepository,
+                                              TurnoverCommissionValueRepository turnoverCommissionValueRepository,
+                                              KeysetPagination keysetPagination,
+                                              CacheManager cacheManager,
+                                              OptimisticLockTemplate optimisticLockTemplate) {
+        this.accountRepository = accountRepository;
+        this.turnoverCommissionValueRepository = turnoverCommissionValueRepository;
+        this.keysetPagination = keysetPagination;
+        this.optimisticLockTemplate = optimisticLockTemplate;
+        this.commissionPercentValuesCache = new TransactionAwareCacheDecorator(cacheManager.getCache(
+                CacheConfig.TURNOVER_COMMISSION_PERCENT_VALUES_CACHE));
+    }
 
     @Override
     public TurnoverCommissionValue getTurnoverCommissionValue(Long id) {
@@ -36,12 +56,18 @@ public class TurnoverCommissionValueServiceImpl implements TurnoverCommissionVal
     }
 
     @Override
-    public List<TurnoverCommissionValue> getTurnoverCommissionValues() {
-        return turnoverCommissionValueRepository.findAll();
+    public List<TurnoverCommissionValue> getTurnoverCommissionValues(Long afterId, Integer pageSize) {
+        return turnoverCommissionValueRepository.findByIdGreaterThan(keysetPagination.getAfterId(afterId),
+                keysetPagination.getPageRequest(pageSize));
     }
 
+    /**
+     * Уникальность ставки для типа актива на счёте гарантирует ограничение уникальности в БД, потому строгая
+     * изоляция не нужна.
+     * @since 0.0.1-alpha
+     */
     @Override
-    @Transactional(isolation = Isolation.SERIALIZABLE, rollbackFor = {Exception.class})
+    @Transactional(isolation = Isolation.READ_COMMITTED, rollbackFor = {Exception.class})
     public TurnoverCommissionValue createTurnoverCommissionValue(
             TurnoverCommissionValueDTO turnoverCommissionValueDTO) {
         AtomicReference<TurnoverCommissionValue> atomicTurnoverCommissionValue = new AtomicReference<>(
@@ -53,24 +79,50 @@ public class TurnoverCommissionValueServiceImpl implements TurnoverCommissionVal
         atomicTurnoverCommissionValue.get().setCommissionPercentValue(InputPercentValueStringsFormatter
                 .getCheckedAndFormatted(turnoverCommissionValueDTO.getCommissionPercentValue()));
 
+        evictCachedCommissionPercentValue(atomicTurnoverCommissionValue.get());
+
         return turnoverCommissionValueRepository.save(atomicTurnoverCommissionValue.get());
     }
 
+    /**
+     * Изменение идёт при READ_COMMITTED, одновременное изменение той же ставки обнаруживается по версии строки
+     * и отклоняется с 409 Conflict, см. {@link OptimisticLockTemplate}.
+     * @since 0.0.1-alpha
+     */
     @Override
-    @Transactional(isolation = Isolation.REPEATABLE_READ, rollbackFor = {Exception.class})
     public TurnoverCommissionValue updateTurnoverCommissionValue(Long id, PercentFloatValueDTO percentFloatValueDTO) {
-        AtomicReference<TurnoverCommissionValue> atomicTurnoverCommissionValueToUpdate = new AtomicReference<>(
-                turnoverCommissionValueRepository.findById(id).orElseThrow()
-        );
+        return optimisticLockTemplate.execute("turnoverCommissionValue.update", () -> {
+            AtomicReference<TurnoverCommissionValue> atomicTurnoverCommissionValueToUpdate = new AtomicReference<>(
+                    turnoverCommissionValueRepository.findById(id).orElseThrow()
+            );
 
-        atomicTurnoverCommissionValueToUpdate.get().setCommissionPercentValue(InputPercentValueStringsFormatter
-                .getCheckedAndFormatted(percentFloatValueDTO.getPercentValue()));
+            atomicTurnoverCommissionValueToUpdate.get().setCommissionPercentValue(InputPercentValueStringsFormatter
+                    .getCheckedAndFormatted(percentFloatValueDTO.getPercentValue()));
 
-        return turnoverCommissionValueRepository.save(atomicTurnoverCommissionValueToUpdate.get());
+            evictCachedCommissionPercentValue(atomicTurnoverCommissionValueToUpdate.get());
+
+            return turnoverCommissionValueRepository.save(atomicTurnoverCommissionValueToUpdate.get());
+        });
     }
 
     @Override
+    @Transactional(rollbackFor = {Exception.class})
     public void deleteTurnoverCommissionValue(Long id) {
-        turnoverCommissionValueRepository.deleteById(id);
+        turnoverCommissionValueRepository.findById(id).ifPresent(turnoverCommissionValue -> {
+            evictCachedCommissionPercentValue(turnoverCommissionValue);
+            turnoverCommissionValueRepository.delete(turnoverCommissionValue);
+        });
+    }
+
+    /**
+     * Сбрасывает закэшированный размер комиссии, см.
+     * {@link TurnoverCommissionValueRepository#findCommissionPercentValue}. Сброс откладывается до фиксации
+     * транзакции, чтобы параллельный расчёт комиссии не вернул в кэш ещё не изменённую ставку.
+     * @param turnoverCommissionValue Изменяемая ставка комиссии.
+     * @since 0.0.1-alpha
+     */
+    private void evictCachedCommissionPercentValue(TurnoverCommissionValue turnoverCommissionValue) {
+        commissionPercentValuesCache.evict(new SimpleKey(turnoverCommissionValue.getAccount().getId(),
+                turnoverCommissionValue.getAssetTypeName()));
     }
 }
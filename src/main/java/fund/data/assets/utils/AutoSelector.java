@@ -9,6 +9,11 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
 import static fund.data.assets.utils.enums.AssetCurrency.RUSRUB;
 
 /**
@@ -27,10 +32,73 @@ public class AutoSelector {
     public static final String COMMISSION_SYSTEM_CHOOSE = "COMMISSION_SYSTEM";
     public static final String TAX_SYSTEM_CHOOSE = "TAX_SYSTEM";
     public static final String NO_TAX_SYSTEM_CHOOSE = "NO_TAX_SYSTEM";
+    /**
+     * Таблица подбора, построенная один раз при загрузке класса: валюта актива -> тип актива -> системы комиссии и
+     * налогообложения. Новый тип актива или валюта добавляется строкой в {@link #buildCostSystemsRegistry()}.
+     */
+    private static final Map<AssetCurrency, Map<String, AssetOperationsCostSystems>> COST_SYSTEMS_REGISTRY =
+            buildCostSystemsRegistry();
+
+    /**
+     * Системы расчёта брокерской комиссии и налогообложения, применяемые к операциям с активом.
+     * @param commissionSystem Система расчёта брокерской комиссии.
+     * @param taxSystem Система налогообложения.
+     */
+    public record AssetOperationsCostSystems(CommissionSystem commissionSystem, TaxSystem taxSystem) {
+    }
+
+    /**
+     * Подбирает систему расчёта брокерской комиссии и систему налогообложения актива по таблице подбора.
+     * @param assetCurrency Валюта актива.
+     * @param assetTypeName Тип актива.
+     * @return Системы комиссии и налогообложения актива.
+     * @throws IllegalArgumentException Если валюта или тип актива пока что не поддерживаются системой фонда.
+     * @since 0.0.1-alpha
+     */
+    public static AssetOperationsCostSystems selectAssetOperationsCostSystems(AssetCurrency assetCurrency,
+                                                                              String assetTypeName) {
+        Map<String, AssetOperationsCostSystems> currencyCostSystems = COST_SYSTEMS_REGISTRY.get(assetCurrency);
+
+        if (currencyCostSystems == null) {
+            throw new IllegalArgumentException(NOT_IMPLEMENTED_CURRENCY);
+        }
+
+        AssetOperationsCostSystems costSystems = currencyCostSystems.get(assetTypeName);
+
+        if (costSystems == null) {
+            throw new IllegalArgumentException(NOT_IMPLEMENTED_ASSET_TYPE);
+        }
+        return costSystems;
+    }
+
+    /**
+     * Подбирает систему расчёта брокерской комиссии актива.
+     * @param assetCurrency Валюта актива.
+     * @param assetTypeName Тип актива.
+     * @return Система расчёта брокерской комиссии.
+     * @throws IllegalArgumentException Если валюта или тип актива пока что не поддерживаются системой фонда.
+     * @since 0.0.1-alpha
+     */
+    public static CommissionSystem selectCommissionSystem(AssetCurrency assetCurrency, String assetTypeName) {
+        return selectAssetOperationsCostSystems(assetCurrency, assetTypeName).commissionSystem();
+    }
+
+    /**
+     * Подбирает систему налогообложения актива.
+     * @param assetCurrency Валюта актива.
+     * @param assetTypeName Тип актива.
+     * @return Система налогообложения.
+     * @throws IllegalArgumentException Если валюта или тип актива пока что не поддерживаются системой фонда.
+     * @since 0.0.1-alpha
+     */
+    public static TaxSystem selectTaxSystem(AssetCurrency assetCurrency, String assetTypeName) {
+        return selectAssetOperationsCostSystems(assetCurrency, assetTypeName).taxSystem();
+    }
 
     /**
      * Автоматически подбирает тип системы налогообложения и системы расчёта брокерской комиссии.
      * Этот класс и этот метод - временные, до внедрения иных модулей для налогообложения и комиссий.
+     * Для нового кода предпочтительнее типизированные {@link #selectCommissionSystem} и {@link #selectTaxSystem}.
      * @param assetCurrency Валюта  актива.
      * @param assetTypeName Тип актива.
      * @param costSystemToChoose Техническое значение - указатель, какой тип системы возвращать, т.к. метод полиморфный.
@@ -43,21 +111,29 @@ public class AutoSelector {
     public static Enum<? extends Enum<?>> selectAssetOperationsCostSystem(AssetCurrency assetCurrency,
                                                                           String assetTypeName,
                                                                           String costSystemToChoose) {
-        if (assetCurrency.equals(RUSRUB)) {
-            if (assetTypeName.equals(FixedRateBond.class.getTypeName())) {
-                switch (costSystemToChoose) {
-                    case COMMISSION_SYSTEM_CHOOSE:
-                        return CommissionSystem.TURNOVER;
-                    case TAX_SYSTEM_CHOOSE:
-                        return TaxSystem.EQUAL_COUPON_DIVIDEND_TRADE;
-                    case NO_TAX_SYSTEM_CHOOSE:
-                        return TaxSystem.NO_TAX;
-                    default:
-                        throw new IllegalArgumentException(WRONG_COST_SYSTEM_TO_CHOOSE_WARNING);
-                }
-            }
-            throw new IllegalArgumentException(NOT_IMPLEMENTED_ASSET_TYPE);
-        }
-        throw new IllegalArgumentException(NOT_IMPLEMENTED_CURRENCY);
+        AssetOperationsCostSystems costSystems = selectAssetOperationsCostSystems(assetCurrency, assetTypeName);
+
+        return switch (costSystemToChoose) {
+            case COMMISSION_SYSTEM_CHOOSE -> costSystems.commissionSystem();
+            case TAX_SYSTEM_CHOOSE -> costSystems.taxSystem();
+            case NO_TAX_SYSTEM_CHOOSE -> TaxSystem.NO_TAX;
+            default -> throw new IllegalArgumentException(WRONG_COST_SYSTEM_TO_CHOOSE_WARNING);
+        };
+    }
+
+    /**
+     * Строит таблицу подбора систем комиссии и налогообложения.
+     * @return Неизменяемая таблица: валюта актива -> тип актива -> системы комиссии и налогообложения.
+     * @since 0.0.1-alpha
+     */
+    private static Map<AssetCurrency, Map<String, AssetOperationsCostSystems>> buildCostSystemsRegistry() {
+        Map<AssetCurrency, Map<String, AssetOperationsCostSystems>> registry = new EnumMap<>(AssetCurrency.class);
+        Map<String, AssetOperationsCostSystems> rusRubCostSystems = new HashMap<>();
+
+        rusRubCostSystems.put(FixedRateBond.class.getTypeName(),
+                new AssetOperationsCostSystems(CommissionSystem.TURNOVER, TaxSystem.EQUAL_COUPON_DIVIDEND_TRADE));
+        registry.put(RUSRUB, Map.copyOf(rusRubCostSystems));
+
+        return Collections.unmodifiableMap(registry);
     }
 }
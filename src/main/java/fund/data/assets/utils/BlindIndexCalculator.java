@@ -0,0 +1,117 @@
+package fund.data.assets.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.Locale;
+
+/**
+ * Класс для расчёта "слепых индексов" (blind index) зашифрованных полей собственников активов.
+ * Слепой индекс - это детерминированный HMAC-хеш открытого значения поля. Он хранится рядом с зашифрованным
+ * значением и позволяет искать по полю одним индексированным запросом, не расшифровывая все строки таблицы.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Component
+public class BlindIndexCalculator {
+    public static final String HMAC_ALGORITHM = "HmacSHA256";
+    public static final String FINGERPRINT_FIELDS_SEPARATOR = "\u001F";
+    public static final String RUSSIAN_COUNTRY_CODE = "7";
+    public static final String RUSSIAN_TRUNK_PREFIX = "8";
+    public static final int RUSSIAN_PHONE_NUMBER_LENGTH = 10;
+    public static final String WRONG_HMAC_ALGORITHM_WARNING = "There is programmers error - blind index HMAC" +
+            " algorithm isn't supported by JVM!";
+    private final SecretKeySpec blindIndexKey;
+
+    //TODO - Ближе к деплою, ключ, как и пароль LazyStringCryptoConverter, нужно хранить ВНЕ кода проекта.
+    public BlindIndexCalculator(@Value("${crypto.blind-index-key}") String blindIndexKey) {
+        this.blindIndexKey = new SecretKeySpec(blindIndexKey.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+    }
+
+    /**
+     * Рассчитывает слепой индекс email собственника активов. Перед хешированием email нормализуется - из него
+     * удаляются пробелы по краям, а буквы приводятся к нижнему регистру, чтобы "Owner@Mail.ru" и "owner@mail.ru"
+     * давали один и тот же индекс.
+     * @param email Email в открытом виде. Может быть null, т.к. почты у собственника может и не быть.
+     * @return HMAC-хеш нормализованного email в шестнадцатеричном виде, либо null, если email не указан.
+     * @since 0.0.1-alpha
+     */
+    public String calculateEmailBlindIndex(String email) {
+        if (email == null) {
+            return null;
+        }
+        return calculateBlindIndex(email.strip().toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Рассчитывает слепой индекс номера мобильного телефона. Перед хешированием номер нормализуется - из него
+     * удаляются все символы, кроме цифр, а префикс 8 или его отсутствие заменяются кодом страны 7, чтобы
+     * "+7 (988) 888-88-88", "89888888888" и "+79888888888" давали один и тот же индекс.
+     * @param mobilePhoneNumber Номер мобильного телефона в открытом виде.
+     * @return HMAC-хеш нормализованного номера в шестнадцатеричном виде.
+     * @since 0.0.1-alpha
+     */
+    public String calculateMobilePhoneBlindIndex(String mobilePhoneNumber) {
+        String phoneNumberDigits = mobilePhoneNumber.replaceAll("\\D", "");
+
+        if (phoneNumberDigits.length() == RUSSIAN_PHONE_NUMBER_LENGTH) {
+            phoneNumberDigits = RUSSIAN_COUNTRY_CODE + phoneNumberDigits;
+        } else if (phoneNumberDigits.length() == RUSSIAN_PHONE_NUMBER_LENGTH + 1
+                && phoneNumberDigits.startsWith(RUSSIAN_TRUNK_PREFIX)) {
+            phoneNumberDigits = RUSSIAN_COUNTRY_CODE + phoneNumberDigits.substring(1);
+        }
+        return calculateBlindIndex(phoneNumberDigits);
+    }
+
+    /**
+     * Рассчитывает "отпечаток" паспорта РФ - слепой индекс по совокупности полей, однозначно определяющих паспорт.
+     * Серия паспорта нормализуется - из неё удаляются пробелы, т.к. её можно вводить как с пробелом, так и без.
+     * Поля объединяются через управляющий символ-разделитель, который не может встретиться в самих значениях.
+     * @param passportSeries серия паспорта РФ
+     * @param passportNumber номер паспорта РФ
+     * @param placeOfBirth место рождения
+     * @param placeOfPassportGiven место выдачи паспорта
+     * @param issueDate дата выдачи паспорта
+     * @param issuerOrganisationCode код организации, выдавшей паспорт
+     * @return HMAC-хеш совокупности полей паспорта в шестнадцатеричном виде.
+     * @since 0.0.1-alpha
+     */
+    public String calculatePassportFingerprint(String passportSeries, String passportNumber, String placeOfBirth,
+                                               String placeOfPassportGiven, LocalDate issueDate,
+                                               String issuerOrganisationCode) {
+        return calculateBlindIndex(String.join(FINGERPRINT_FIELDS_SEPARATOR,
+                passportSeries.replaceAll("\\s", ""),
+                passportNumber,
+                placeOfBirth,
+                placeOfPassportGiven,
+                issueDate.toString(),
+                issuerOrganisationCode));
+    }
+
+    /**
+     * Рассчитывает HMAC-хеш строки. Объект Mac не потокобезопасен, потому создаётся на каждый вызов - это дёшево
+     * по сравнению с расшифровкой значения.
+     * @param value Значение в открытом виде.
+     * @return HMAC-хеш значения в шестнадцатеричном виде.
+     * @throws IllegalStateException Если алгоритм HMAC не поддерживается JVM.
+     * @since 0.0.1-alpha
+     */
+    private String calculateBlindIndex(String value) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+
+            mac.init(blindIndexKey);
+
+            return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(WRONG_HMAC_ALGORITHM_WARNING, exception);
+        }
+    }
+}
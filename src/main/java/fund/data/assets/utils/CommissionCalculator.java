@@ -3,6 +3,7 @@ package fund.data.assets.utils;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.repository.TurnoverCommissionValueRepository;
 import fund.data.assets.utils.enums.CommissionSystem;
+import fund.data.assets.utils.money.MoneyMath;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,32 +31,35 @@ public class CommissionCalculator {
      * @param account Счёт, где проводится операция.
      * @param assetTypeName Тип актива, с которым проводится операция.
      * @param assetCount Количество единиц актива, с которым проводится операция.
-     * @param dirtyBondPriceInCurrency "Грязная" цена облигации = (рыночная цена * номинал + НКД).
-     * @return Возвращает общий размер комиссии с оборота по активу - число с плавающей запятой.
+     * @param dirtyBondPriceInMinorUnits "Грязная" цена облигации = (рыночная цена * номинал + НКД) в минимальных
+     * единицах валюты.
+     * @return Возвращает общий размер комиссии с оборота по активу в минимальных единицах валюты, округлённый
+     * по банковским правилам.
      * @throws IllegalArgumentException Если в качестве аргумента commissionSystem не CommissionSystem.TURNOVER.
      * @since 0.0.1-alpha
      */
-    public Float calculateTotalCommissionForPurchase(CommissionSystem commissionSystem,
-                                                            Account account, String assetTypeName,
-                                                            Integer assetCount, Float dirtyBondPriceInCurrency) {
+    public long calculateTotalCommissionForPurchase(CommissionSystem commissionSystem,
+                                                    Account account, String assetTypeName,
+                                                    int assetCount, long dirtyBondPriceInMinorUnits) {
         if (commissionSystem.equals(TURNOVER)) {
-            Float commissionPercentValue = findTurnoverCommissionValue(account, assetTypeName);
+            long commissionPercentValue = findTurnoverCommissionValue(account, assetTypeName);
 
-            return assetCount * dirtyBondPriceInCurrency * commissionPercentValue;
+            return MoneyMath.applyPercent(Math.multiplyExact(assetCount, dirtyBondPriceInMinorUnits),
+                    commissionPercentValue);
         } else {
             throw new IllegalArgumentException(NOT_IMPLEMENTED_COMMISSION_SYSTEM_TO_CALCULATE);
         }
     }
 
     /**
-     * Находит комиссию - размер процента с оборота.
+     * Находит комиссию - размер процента с оборота. Значение берётся из кэша ставок, см.
+     * {@link TurnoverCommissionValueRepository#findCommissionPercentValue}.
      * @param account Счёт, на котором проводится операция.
      * @param assetTypeName Тип актива, с которым проводится операция.
-     * @return Возвращает процента с оборота - число с плавающей запятой.
+     * @return Возвращает процент с оборота - долю с фиксированной точкой.
      * @since 0.0.1-alpha
      */
-    private Float findTurnoverCommissionValue(Account account, String assetTypeName) {
-        return turnoverCommissionValueRepository.findByAccountAndAssetTypeName(account, assetTypeName)
-                .getCommissionPercentValue();
+    private Long findTurnoverCommissionValue(Account account, String assetTypeName) {
+        return turnoverCommissionValueRepository.findCommissionPercentValue(account.getId(), assetTypeName);
     }
 }
@@ -1,16 +1,20 @@
 package fund.data.assets.utils;
 
 import fund.data.assets.exception.NotValidPercentValueInputFormatException;
+import fund.data.assets.utils.money.MoneyMath;
 
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
- * Класс для форматирования введённого пользователем процентного значения из String во Float.
+ * Класс для форматирования введённого пользователем процентного значения из String в значение с фиксированной
+ * точкой, см. {@link MoneyMath}.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
@@ -19,13 +23,14 @@ import java.util.regex.Pattern;
 public class InputPercentValueStringsFormatter {
     /**
      * Метод проверяет соответствие введённого значения одному из двух возможных форматов и
-     * преобразовывает корректное значение из String во Float.
+     * преобразовывает корректное значение из String в долю с фиксированной точкой. Преобразование точное:
+     * формат допускает не более 4 знаков после запятой у процента, т.е. не более 6 - у доли.
      * @param inputString Строка с размером процентного значения.
-     * @return Возвращает введённое значение в формате Float для дальнейшего использования.
+     * @return Возвращает введённое значение как долю с фиксированной точкой, к примеру, 1% = 10 000.
      * @throws NotValidPercentValueInputFormatException Если введённое значение некорректно.
      * @since 0.0.1-alpha
      */
-    public static Float getCheckedAndFormatted(String inputString) {
+    public static Long getCheckedAndFormatted(String inputString) {
         String inputStringWithReplacedCommaByPoint = inputString.replace(",", ".");
 
         Pattern simplePercentStringPattern = Pattern.compile("^[1-9][0-9]*$");
@@ -35,7 +40,7 @@ public class InputPercentValueStringsFormatter {
         Matcher complexPercentStringMatcher = complexPercentStringPattern.matcher(inputStringWithReplacedCommaByPoint);
 
         if (simplePercentStringMatcher.matches() || complexPercentStringMatcher.matches()) {
-            return Float.parseFloat(inputStringWithReplacedCommaByPoint) / 100;
+            return MoneyMath.toPercentValue(new BigDecimal(inputStringWithReplacedCommaByPoint).movePointLeft(2));
         } else {
             throw new NotValidPercentValueInputFormatException();
         }
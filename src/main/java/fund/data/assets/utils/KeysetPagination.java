@@ -0,0 +1,76 @@
+package fund.data.assets.utils;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Постраничная выдача списков "по ключу" (keyset pagination). Страница - это записи с id больше переданного,
+ * отсортированные по id. В отличие от OFFSET, такой запрос идёт по первичному ключу и не замедляется на дальних
+ * страницах. Следующую страницу клиент запрашивает с afterId из заголовка ответа X-Next-After-Id - это id
+ * последней записи текущей страницы. Заголовка нет - страница последняя.
+ * Размер страницы ограничен сверху настройкой pagination.max-page-size, чтобы ответ и расход памяти
+ * не зависели от числа записей в таблице.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Component
+public class KeysetPagination {
+    public static final String ID_FIELD = "id";
+    public static final Long FIRST_PAGE_AFTER_ID = 0L;
+    public static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public KeysetPagination(@Value("${pagination.default-page-size:50}") int defaultPageSize,
+                            @Value("${pagination.max-page-size:500}") int maxPageSize) {
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * @param afterId id, после которого начинается страница. Если не передан - страница первая.
+     * @return id, после которого начинается страница.
+     * @since 0.0.1-alpha
+     */
+    public Long getAfterId(Long afterId) {
+        return afterId == null ? FIRST_PAGE_AFTER_ID : afterId;
+    }
+
+    /**
+     * @param pageSize Запрошенный размер страницы. Если не передан или не положителен - используется размер
+     * по умолчанию, а если больше максимального - максимальный.
+     * @return Запрос первой страницы выборки, отсортированной по id, с ограниченным размером.
+     * @since 0.0.1-alpha
+     */
+    public PageRequest getPageRequest(Integer pageSize) {
+        return PageRequest.of(0, getLimitedPageSize(pageSize), Sort.by(ID_FIELD));
+    }
+
+    /**
+     * Ответ со страницей списка. Если страница заполнена целиком, за ней могут быть ещё записи - тогда в заголовке
+     * X-Next-After-Id передаётся id последней записи страницы.
+     * @param page Страница, полученная по {@link #getPageRequest(Integer)}.
+     * @param pageSize Запрошенный размер страницы, с которым она была получена.
+     * @param idGetter id записи страницы.
+     * @return Ответ 200 OK со страницей в теле.
+     * @since 0.0.1-alpha
+     */
+    public <T> ResponseEntity<List<T>> toResponseEntity(List<T> page, Integer pageSize, Function<T, Long> idGetter) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok();
+
+        if (!page.isEmpty() && page.size() >= getLimitedPageSize(pageSize)) {
+            responseBuilder.header(NEXT_AFTER_ID_HEADER, String.valueOf(idGetter.apply(page.get(page.size() - 1))));
+        }
+        return responseBuilder.body(page);
+    }
+
+    private int getLimitedPageSize(Integer pageSize) {
+        return (pageSize == null || pageSize < 1) ? defaultPageSize : Math.min(pageSize, maxPageSize);
+    }
+}
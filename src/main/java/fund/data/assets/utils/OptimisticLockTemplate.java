@@ -0,0 +1,59 @@
+package fund.data.assets.utils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.function.Supplier;
+
+/**
+ * Выполняет изменение сущности с @Version по схеме "прочитать-изменить-сохранить" в одной транзакции при
+ * READ_COMMITTED. Если за это время строку изменил кто-то другой, изменение не повторяется: DTO изменений несут
+ * абсолютные значения полей, и повтор молча затёр бы чужое изменение. Вместо этого клиент получает 409 Conflict,
+ * перечитывает сущность и решает сам, применять ли изменение повторно.
+ * Конфликты публикуются в Micrometer: optimistic.lock.conflicts с тегом operation.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+public class OptimisticLockTemplate {
+    public static final String CONFLICTS_METRIC = "optimistic.lock.conflicts";
+    public static final String OPERATION_TAG = "operation";
+    public static final String CONCURRENT_UPDATE_WARNING = "This is error - entity was changed by another request," +
+            " reload it and repeat the update!";
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public OptimisticLockTemplate(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Выполняет изменение в транзакции.
+     * @param operationName Название изменения - тег метрик.
+     * @param operation Изменение: чтение, изменение и сохранение сущности.
+     * @return Результат изменения.
+     * @throws ResponseStatusException Со статусом 409 Conflict, если строку одновременно изменил кто-то другой.
+     * @since 0.0.1-alpha
+     */
+    public <T> T execute(String operationName, Supplier<T> operation) {
+        try {
+            return transactionTemplate.execute(status -> operation.get());
+        } catch (OptimisticLockingFailureException conflict) {
+            meterRegistry.counter(CONFLICTS_METRIC, OPERATION_TAG, operationName).increment();
+            log.debug("Optimistic lock conflict in {}", operationName);
+            throw new ResponseStatusException(HttpStatus.CONFLICT, CONCURRENT_UPDATE_WARNING, conflict);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package fund.data.assets.utils;
+
+import org.hibernate.Hibernate;
+
+/**
+ * Фильтр для @JsonInclude(value = JsonInclude.Include.CUSTOM, valueFilter = ...).
+ * Исключает из JSON ленивые связи, которые не были загружены из БД, чтобы сериализация сущности
+ * не порождала дополнительные запросы (N+1) за данными, которые эндпоинт не запрашивал.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public class UninitializedLazyJsonFilter {
+    /**
+     * Jackson считает значение, "равное" фильтру, подлежащим исключению из JSON.
+     * @param value Значение поля сущности.
+     * @return true, если это не загруженная ленивая коллекция или прокси.
+     * @since 0.0.1-alpha
+     */
+    @Override
+    public boolean equals(Object value) {
+        return value != null && !Hibernate.isInitialized(value);
+    }
+
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+}
@@ -0,0 +1,60 @@
+package fund.data.assets.utils.analytics;
+
+import fund.data.assets.model.asset.exchange.FixedRateBond;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA-слушатель облигаций с фиксированным купоном, поддерживающий {@link FixedRateBondAnalyticsSnapshot} в
+ * актуальном состоянии. Изменения переносятся в снимок после фиксации транзакции, чтобы откаченные изменения
+ * в снимок не попадали.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Component
+public class FixedRateBondAnalyticsListener {
+    private final FixedRateBondAnalyticsSnapshot fixedRateBondAnalyticsSnapshot;
+
+    public FixedRateBondAnalyticsListener(FixedRateBondAnalyticsSnapshot fixedRateBondAnalyticsSnapshot) {
+        this.fixedRateBondAnalyticsSnapshot = fixedRateBondAnalyticsSnapshot;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onBondSaved(FixedRateBond bond) {
+        FixedRateBondMetrics metrics = FixedRateBondMetrics.of(bond);
+
+        runAfterCommit(() -> fixedRateBondAnalyticsSnapshot.upsert(metrics));
+    }
+
+    @PostRemove
+    public void onBondRemoved(FixedRateBond bond) {
+        Long bondId = bond.getId();
+
+        runAfterCommit(() -> fixedRateBondAnalyticsSnapshot.remove(bondId));
+    }
+
+    /**
+     * Выполняет действие после фиксации текущей транзакции, либо сразу, если транзакции нет.
+     * @param action Действие над снимком.
+     * @since 0.0.1-alpha
+     */
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
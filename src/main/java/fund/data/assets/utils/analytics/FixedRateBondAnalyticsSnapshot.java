@@ -0,0 +1,354 @@
+package fund.data.assets.utils.analytics;
+
+import fund.data.assets.repository.FixedRateBondRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Снимок показателей всех облигаций с фиксированным купоном в памяти для экранов портфеля.
+ * Показатели хранятся по столбцам в массивах примитивов - одна строка на облигацию, потому сортировка и
+ * фильтрация по доходности, дате погашения и эмитенту идут без загрузки сущностей и обращения к БД.
+ * Снимок загружается целиком при старте приложения, а дальше обновляется по одной строке
+ * {@link FixedRateBondAnalyticsListener} при сохранении и удалении облигаций.
+ * Чтение и запись разделены ReadWriteLock: запросы идут параллельно, обновления - по одному.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Slf4j
+@Component
+public class FixedRateBondAnalyticsSnapshot {
+    public static final int INITIAL_CAPACITY = 1024;
+    public static final String WRONG_MATURITY_BUCKETS_PARAMETERS_WARNING = "Maturity bucket days and buckets count" +
+            " must be positive!";
+    private final FixedRateBondRepository fixedRateBondRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowsByBondId = new HashMap<>();
+    private int size;
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] iSINs = new String[INITIAL_CAPACITY];
+    private String[] issuers = new String[INITIAL_CAPACITY];
+    private int[] assetCounts = new int[INITIAL_CAPACITY];
+    private long[] parValues = new long[INITIAL_CAPACITY];
+    private long[] pricePercents = new long[INITIAL_CAPACITY];
+    private long[] couponValues = new long[INITIAL_CAPACITY];
+    private long[] maturityEpochDays = new long[INITIAL_CAPACITY];
+    private float[] simpleYields = new float[INITIAL_CAPACITY];
+    /**
+     * NaN - показатель реальной доходности к облигации неприменим.
+     */
+    private float[] markDementevYields = new float[INITIAL_CAPACITY];
+
+    /**
+     * Вид доходности для отбора облигаций с наибольшей доходностью.
+     */
+    public enum BondYieldType {
+        SIMPLE_YIELD_TO_MATURITY,
+        MARK_DEMENTEV_YIELD_INDICATOR
+    }
+
+    /**
+     * Облигации с датой погашения в полуинтервале [from, to).
+     * @param from Начало интервала включительно.
+     * @param to Конец интервала, не включая его. null - у последнего интервала, собирающего все остальные облигации.
+     * @param bondsCount Количество облигаций в интервале.
+     */
+    public record MaturityBucket(LocalDate from, LocalDate to, int bondsCount) {
+    }
+
+    /**
+     * Сводка по облигациям одного эмитента.
+     * @param assetIssuerTitle Эмитент.
+     * @param bondsCount Количество выпусков (различных ISIN) облигаций эмитента на учёте.
+     * @param totalParValue Суммарная номинальная стоимость облигаций эмитента по всем позициям.
+     * @param averageSimpleYieldToMaturity Средняя простая доходность к погашению по выпускам - сначала доходность
+     * усредняется по позициям внутри выпуска, затем по выпускам, чтобы выпуск с несколькими покупками не
+     * перевешивал остальные.
+     */
+    public record IssuerAggregate(String assetIssuerTitle, int bondsCount, long totalParValue,
+                                  float averageSimpleYieldToMaturity) {
+    }
+
+    /**
+     * Позиция по одному выпуску облигаций у всех собственников и на всех счетах.
+     * @param iSIN ISIN выпуска.
+     * @param holdingsCount Количество записей об облигациях выпуска - пар собственник-счёт.
+     * @param totalAssetCount Суммарное количество облигаций выпуска.
+     */
+    public record ISINHoldings(String iSIN, int holdingsCount, long totalAssetCount) {
+    }
+
+    public FixedRateBondAnalyticsSnapshot(@Lazy FixedRateBondRepository fixedRateBondRepository) {
+        this.fixedRateBondRepository = fixedRateBondRepository;
+    }
+
+    /**
+     * Загружает в снимок все облигации при старте приложения.
+     * @since 0.0.1-alpha
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        try (Stream<FixedRateBondMetrics> allMetrics = fixedRateBondRepository.streamAllMetrics()) {
+            allMetrics.forEach(this::upsert);
+        }
+        log.info("Fixed rate bonds analytics snapshot loaded, bonds count - {}", size());
+    }
+
+    /**
+     * Добавляет облигацию в снимок, либо обновляет её строку.
+     * @param metrics Показатели облигации.
+     * @since 0.0.1-alpha
+     */
+    public void upsert(FixedRateBondMetrics metrics) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsByBondId.get(metrics.id());
+
+            if (row == null) {
+                ensureCapacity(size + 1);
+                row = size++;
+                rowsByBondId.put(metrics.id(), row);
+            }
+            ids[row] = metrics.id();
+            iSINs[row] = metrics.iSIN();
+            issuers[row] = metrics.assetIssuerTitle();
+            assetCounts[row] = metrics.assetCount();
+            parValues[row] = metrics.bondParValue();
+            pricePercents[row] = metrics.purchaseBondParValuePercent();
+            couponValues[row] = metrics.bondCouponValue();
+            maturityEpochDays[row] = metrics.bondMaturityDate().toEpochDay();
+            simpleYields[row] = metrics.simpleYieldToMaturity();
+            markDementevYields[row] = metrics.markDementevYieldIndicator() != null
+                    ? metrics.markDementevYieldIndicator() : Float.NaN;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Удаляет облигацию из снимка. Освободившуюся строку занимает последняя строка снимка.
+     * @param bondId id облигации.
+     * @since 0.0.1-alpha
+     */
+    public void remove(Long bondId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowsByBondId.remove(bondId);
+
+            if (row == null) {
+                return;
+            }
+            int lastRow = --size;
+
+            if (row != lastRow) {
+                moveRow(lastRow, row);
+                rowsByBondId.put(ids[row], row);
+            }
+            iSINs[lastRow] = null;
+            issuers[lastRow] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Отбирает облигации с наибольшей доходностью.
+     * @param yieldType Вид доходности. Облигации, к которым неприменим показатель реальной доходности, при отборе
+     * по нему пропускаются.
+     * @param limit Сколько облигаций вернуть. Очередь отбора не бывает больше снимка, каким бы ни был limit.
+     * @return Показатели облигаций по убыванию доходности.
+     * @since 0.0.1-alpha
+     */
+    public List<FixedRateBondMetrics> findTopByYield(BondYieldType yieldType, int limit) {
+        lock.readLock().lock();
+        try {
+            float[] yields = yieldType == BondYieldType.SIMPLE_YIELD_TO_MATURITY ? simpleYields : markDementevYields;
+            PriorityQueue<Integer> topRows = new PriorityQueue<>(Math.max(Math.min(limit, size), 1),
+                    (firstRow, secondRow) -> Float.compare(yields[firstRow], yields[secondRow]));
+
+            for (int row = 0; row < size && limit > 0; row++) {
+                if (Float.isNaN(yields[row])) {
+                    continue;
+                }
+                if (topRows.size() < limit) {
+                    topRows.add(row);
+                } else if (yields[row] > yields[topRows.peek()]) {
+                    topRows.poll();
+                    topRows.add(row);
+                }
+            }
+
+            List<FixedRateBondMetrics> topMetrics = new ArrayList<>(topRows.size());
+
+            while (!topRows.isEmpty()) {
+                topMetrics.add(toMetrics(topRows.poll()));
+            }
+            Collections.reverse(topMetrics);
+
+            return topMetrics;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Распределяет облигации по интервалам дат погашения равной длины.
+     * @param valuationDate Начало первого интервала. Облигации, погашенные до этой даты, попадают в первый интервал.
+     * @param bucketDays Длина интервала в днях.
+     * @param bucketsCount Количество интервалов. Последний интервал собирает все облигации, не попавшие в предыдущие.
+     * @return Интервалы по возрастанию дат погашения.
+     * @throws IllegalArgumentException Если длина или количество интервалов не положительны.
+     * @since 0.0.1-alpha
+     */
+    public List<MaturityBucket> countByMaturityBuckets(LocalDate valuationDate, int bucketDays, int bucketsCount) {
+        if (bucketDays <= 0 || bucketsCount <= 0) {
+            throw new IllegalArgumentException(WRONG_MATURITY_BUCKETS_PARAMETERS_WARNING);
+        }
+
+        long valuationEpochDay = valuationDate.toEpochDay();
+        int[] bucketCounts = new int[bucketsCount];
+
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                long bucket = Math.max(0, maturityEpochDays[row] - valuationEpochDay) / bucketDays;
+
+                bucketCounts[(int) Math.min(bucket, bucketsCount - 1)]++;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<MaturityBucket> buckets = new ArrayList<>(bucketsCount);
+
+        for (int bucket = 0; bucket < bucketsCount; bucket++) {
+            LocalDate from = valuationDate.plusDays((long) bucket * bucketDays);
+            LocalDate to = bucket < bucketsCount - 1 ? from.plusDays(bucketDays) : null;
+
+            buckets.add(new MaturityBucket(from, to, bucketCounts[bucket]));
+        }
+        return buckets;
+    }
+
+    /**
+     * Сводит облигации по эмитентам. Позиции одного выпуска (с одинаковым ISIN) считаются одним выпуском.
+     * @return Сводки по эмитентам в алфавитном порядке.
+     * @throws ArithmeticException Если суммарная номинальная стоимость облигаций эмитента не помещается в long.
+     * @since 0.0.1-alpha
+     */
+    public List<IssuerAggregate> aggregateByIssuer() {
+        Map<String, Map<String, double[]>> yieldsByIssuerAndISIN = new TreeMap<>();
+        Map<String, Long> parValuesByIssuer = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (int row = 0; row < size; row++) {
+                double[] issueYields = yieldsByIssuerAndISIN.computeIfAbsent(issuers[row], issuer -> new HashMap<>())
+                        .computeIfAbsent(iSINs[row], iSIN -> new double[2]);
+
+                issueYields[0] += simpleYields[row];
+                issueYields[1]++;
+                parValuesByIssuer.merge(issuers[row], Math.multiplyExact(parValues[row], assetCounts[row]),
+                        Math::addExact);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<IssuerAggregate> issuerAggregates = new ArrayList<>(yieldsByIssuerAndISIN.size());
+
+        yieldsByIssuerAndISIN.forEach((issuer, yieldsByISIN) -> {
+            double issueYieldsSum = 0;
+
+            for (double[] issueYields : yieldsByISIN.values()) {
+                issueYieldsSum += issueYields[0] / issueYields[1];
+            }
+            issuerAggregates.add(new IssuerAggregate(issuer, yieldsByISIN.size(), parValuesByIssuer.get(issuer),
+                    (float) (issueYieldsSum / yieldsByISIN.size())));
+        });
+        return issuerAggregates;
+    }
+
+    /**
+     * Собирает показатели облигации из строки снимка. Вызывается под блокировкой чтения.
+     * @param row Номер строки.
+     * @return Показатели облигации.
+     * @since 0.0.1-alpha
+     */
+    private FixedRateBondMetrics toMetrics(int row) {
+        return new FixedRateBondMetrics(ids[row], iSINs[row], issuers[row], assetCounts[row], parValues[row],
+                pricePercents[row], couponValues[row], LocalDate.ofEpochDay(maturityEpochDays[row]), simpleYields[row],
+                Float.isNaN(markDementevYields[row]) ? null : markDementevYields[row]);
+    }
+
+    /**
+     * Копирует строку снимка на место другой строки. Вызывается под блокировкой записи.
+     * @param fromRow Копируемая строка.
+     * @param toRow Строка, на место которой копируется.
+     * @since 0.0.1-alpha
+     */
+    private void moveRow(int fromRow, int toRow) {
+        ids[toRow] = ids[fromRow];
+        iSINs[toRow] = iSINs[fromRow];
+        issuers[toRow] = issuers[fromRow];
+        assetCounts[toRow] = assetCounts[fromRow];
+        parValues[toRow] = parValues[fromRow];
+        pricePercents[toRow] = pricePercents[fromRow];
+        couponValues[toRow] = couponValues[fromRow];
+        maturityEpochDays[toRow] = maturityEpochDays[fromRow];
+        simpleYields[toRow] = simpleYields[fromRow];
+        markDementevYields[toRow] = markDementevYields[fromRow];
+    }
+
+    /**
+     * Увеличивает массивы снимка вдвое, если в них не хватает места. Вызывается под блокировкой записи.
+     * @param requiredCapacity Необходимое количество строк.
+     * @since 0.0.1-alpha
+     */
+    private void ensureCapacity(int requiredCapacity) {
+        if (requiredCapacity <= ids.length) {
+            return;
+        }
+
+        int newCapacity = Math.max(requiredCapacity, ids.length * 2);
+
+        ids = Arrays.copyOf(ids, newCapacity);
+        iSINs = Arrays.copyOf(iSINs, newCapacity);
+        issuers = Arrays.copyOf(issuers, newCapacity);
+        assetCounts = Arrays.copyOf(assetCounts, newCapacity);
+        parValues = Arrays.copyOf(parValues, newCapacity);
+        pricePercents = Arrays.copyOf(pricePercents, newCapacity);
+        couponValues = Arrays.copyOf(couponValues, newCapacity);
+        maturityEpochDays = Arrays.copyOf(maturityEpochDays, newCapacity);
+        simpleYields = Arrays.copyOf(simpleYields, newCapacity);
+        markDementevYields = Arrays.copyOf(markDementevYields, newCapacity);
+    }
+}
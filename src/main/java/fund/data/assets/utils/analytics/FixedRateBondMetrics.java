@@ -0,0 +1,39 @@
+package fund.data.assets.utils.analytics;
+
+import fund.data.assets.model.asset.exchange.FixedRateBond;
+
+import java.time.LocalDate;
+
+/**
+ * Показатели облигации с фиксированным купоном, хранимые в {@link FixedRateBondAnalyticsSnapshot}.
+ * Собирается либо из сущности, либо JPQL-выражением конструктора при загрузке снимка.
+ * Денежные суммы - в минимальных единицах валюты, процентные значения - доли с фиксированной точкой.
+ * @param id id облигации.
+ * @param iSIN ISIN облигации.
+ * @param assetIssuerTitle Эмитент облигации.
+ * @param assetCount Количество облигаций.
+ * @param bondParValue Номинальная стоимость облигации.
+ * @param purchaseBondParValuePercent "Чистая" цена облигации при покупке - % от номинала в десятичной форме.
+ * @param bondCouponValue Размер купонной выплаты в валюте.
+ * @param bondMaturityDate Дата погашения облигации.
+ * @param simpleYieldToMaturity Простая доходность к погашению.
+ * @param markDementevYieldIndicator Показатель реальной доходности, может быть null.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public record FixedRateBondMetrics(Long id,
+                                   String iSIN,
+                                   String assetIssuerTitle,
+                                   Integer assetCount,
+                                   Long bondParValue,
+                                   Long purchaseBondParValuePercent,
+                                   Long bondCouponValue,
+                                   LocalDate bondMaturityDate,
+                                   Float simpleYieldToMaturity,
+                                   Float markDementevYieldIndicator) {
+    public static FixedRateBondMetrics of(FixedRateBond bond) {
+        return new FixedRateBondMetrics(bond.getId(), bond.getISIN(), bond.getAssetIssuerTitle(), bond.getAssetCount(),
+                bond.getBondParValue(), bond.getPurchaseBondParValuePercent(), bond.getBondCouponValue(),
+                bond.getBondMaturityDate(), bond.getSimpleYieldToMaturity(), bond.getMarkDementevYieldIndicator());
+    }
+}
@@ -0,0 +1,59 @@
+package fund.data.assets.utils.converter;
+
+import fund.data.assets.model.owner.AssetsOwner;
+import fund.data.assets.model.owner.RussianAssetsOwner;
+import fund.data.assets.utils.crypto.LazyDecryptedString;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import org.hibernate.annotations.Immutable;
+
+import org.jasypt.encryption.StringEncryptor;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Конвертер зашифрованных полей в классах AssetsOwner и RussianAssetsOwner, расшифровывающий их лениво.
+ * При чтении из БД значение не расшифровывается, а оборачивается в {@link LazyDecryptedString}, который
+ * расшифрует его при первом обращении. При записи значение шифруется заново шифратором из
+ * {@link fund.data.assets.config.CryptoConfig}. Hibernate записывает только изменённые значения, потому
+ * неизменённые поля, зашифрованные прежним движком, переводит на текущий
+ * {@link fund.data.assets.job.FieldReEncryptionJob}.
+ * Исключение - значения, заранее зашифрованные {@link LazyDecryptedString#encryptedWith}: их шифротекст
+ * пишется как есть.
+ * Значения неизменяемы (@Immutable), потому Hibernate не копирует их для проверки изменений сущности.
+ * AssetsOwner - {@link AssetsOwner}.
+ * RussianAssetsOwner - {@link RussianAssetsOwner}.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Component
+@Converter
+@Immutable
+public class LazyStringCryptoConverter implements AttributeConverter<LazyDecryptedString, String> {
+    private final StringEncryptor encryptor;
+
+    public LazyStringCryptoConverter(StringEncryptor fieldStringEncryptor) {
+        this.encryptor = fieldStringEncryptor;
+    }
+
+    @Override
+    public String convertToDatabaseColumn(LazyDecryptedString attribute) {
+        if (attribute == null) {
+            return null;
+        }
+        if (attribute.getEncryptedValueForWrite() != null) {
+            return attribute.getEncryptedValueForWrite();
+        }
+        return encryptor.encrypt(attribute.getValue());
+    }
+
+    @Override
+    public LazyDecryptedString convertToEntityAttribute(String dbData) {
+        if (dbData == null) {
+            return null;
+        }
+        return LazyDecryptedString.ofEncrypted(dbData, encryptor);
+    }
+}
@@ -0,0 +1,134 @@
+package fund.data.assets.utils.crypto;
+
+import org.jasypt.encryption.StringEncryptor;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Шифратор полей собственников активов на AES-GCM.
+ * Ключ выводится из пароля через PBKDF2 один раз - при создании шифратора, а не на каждый вызов, как у PBE-шифраторов
+ * jasypt. Для каждого значения генерируется случайный вектор инициализации, который хранится вместе с шифротекстом.
+ * Шифротекст помечается префиксом версии {@value #CIPHERTEXT_VERSION_PREFIX}. Значения без префикса считаются
+ * зашифрованными прежним PBE-шифратором и расшифровываются им - так старые данные остаются читаемыми. В AES-GCM
+ * их перешифровывает {@link fund.data.assets.job.FieldReEncryptionJob}.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public class AesGcmStringEncryptor implements StringEncryptor {
+    public static final String CIPHERTEXT_VERSION_PREFIX = "v2:";
+    public static final String CIPHER_TRANSFORMATION = "AES/GCM/NoPadding";
+    public static final String KEY_DERIVATION_ALGORITHM = "PBKDF2WithHmacSHA256";
+    public static final int KEY_LENGTH_BITS = 256;
+    public static final int IV_LENGTH_BYTES = 12;
+    public static final int AUTHENTICATION_TAG_LENGTH_BITS = 128;
+    public static final String WRONG_AES_GCM_WARNING = "There is programmers error - AES-GCM field encryption" +
+            " isn't supported by JVM!";
+    public static final String BROKEN_CIPHERTEXT_WARNING = "Encrypted field value is broken or was encrypted" +
+            " with another key!";
+    private final SecretKey key;
+    private final StringEncryptor legacyEncryptor;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    /**
+     * @param password Пароль, из которого выводится ключ AES.
+     * @param salt Соль для вывода ключа. Должна быть постоянной, иначе ранее зашифрованные значения не прочитать.
+     * @param keyDerivationIterations Число итераций PBKDF2.
+     * @param legacyEncryptor Прежний шифратор, которым расшифровываются значения без префикса версии.
+     * @throws IllegalStateException Если AES-GCM или PBKDF2 не поддерживаются JVM.
+     */
+    public AesGcmStringEncryptor(String password, String salt, int keyDerivationIterations,
+                                 StringEncryptor legacyEncryptor) {
+        this.key = deriveKey(password, salt, keyDerivationIterations);
+        this.legacyEncryptor = legacyEncryptor;
+    }
+
+    @Override
+    public String encrypt(String message) {
+        if (message == null) {
+            return null;
+        }
+
+        byte[] iv = new byte[IV_LENGTH_BYTES];
+
+        secureRandom.nextBytes(iv);
+
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH_BITS, iv));
+
+            byte[] encryptedMessage = cipher.doFinal(message.getBytes(StandardCharsets.UTF_8));
+
+            return CIPHERTEXT_VERSION_PREFIX + Base64.getEncoder().encodeToString(ByteBuffer
+                    .allocate(iv.length + encryptedMessage.length)
+                    .put(iv)
+                    .put(encryptedMessage)
+                    .array());
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(WRONG_AES_GCM_WARNING, exception);
+        }
+    }
+
+    @Override
+    public String decrypt(String encryptedMessage) {
+        if (encryptedMessage == null) {
+            return null;
+        }
+        if (!encryptedMessage.startsWith(CIPHERTEXT_VERSION_PREFIX)) {
+            return legacyEncryptor.decrypt(encryptedMessage);
+        }
+
+        byte[] ivAndEncryptedMessage = Base64.getDecoder().decode(encryptedMessage.substring(
+                CIPHERTEXT_VERSION_PREFIX.length()));
+
+        try {
+            Cipher cipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+
+            cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(AUTHENTICATION_TAG_LENGTH_BITS,
+                    ivAndEncryptedMessage, 0, IV_LENGTH_BYTES));
+
+            return new String(cipher.doFinal(ivAndEncryptedMessage, IV_LENGTH_BYTES,
+                    ivAndEncryptedMessage.length - IV_LENGTH_BYTES), StandardCharsets.UTF_8);
+        } catch (AEADBadTagException exception) {
+            throw new IllegalArgumentException(BROKEN_CIPHERTEXT_WARNING, exception);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(WRONG_AES_GCM_WARNING, exception);
+        }
+    }
+
+    /**
+     * Выводит ключ AES из пароля. Вызывается один раз на весь срок жизни шифратора.
+     * @param password Пароль.
+     * @param salt Соль.
+     * @param iterations Число итераций PBKDF2.
+     * @return Ключ AES.
+     * @since 0.0.1-alpha
+     */
+    private static SecretKey deriveKey(String password, String salt, int iterations) {
+        PBEKeySpec keySpec = new PBEKeySpec(password.toCharArray(), salt.getBytes(StandardCharsets.UTF_8),
+                iterations, KEY_LENGTH_BITS);
+
+        try {
+            byte[] keyBytes = SecretKeyFactory.getInstance(KEY_DERIVATION_ALGORITHM).generateSecret(keySpec)
+                    .getEncoded();
+
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException(WRONG_AES_GCM_WARNING, exception);
+        } finally {
+            keySpec.clearPassword();
+        }
+    }
+}
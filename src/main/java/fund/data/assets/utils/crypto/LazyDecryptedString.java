@@ -0,0 +1,127 @@
+package fund.data.assets.utils.crypto;
+
+import org.jasypt.encryption.StringEncryptor;
+
+import java.util.Objects;
+
+/**
+ * Зашифрованная строка, которая расшифровывается только при первом обращении к значению, после чего оно
+ * запоминается. Нужна, чтобы загрузка собственника активов не расшифровывала поля, которые никто не читает -
+ * например, при соединениях с другими таблицами или в операциях, где важны только имя и id.
+ * Значение неизменяемо - для нового значения создаётся новый объект.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public final class LazyDecryptedString {
+    public static final String MASKED_VALUE = "******";
+    private final String encryptedValue;
+    private final StringEncryptor encryptor;
+    private final boolean encryptedForWrite;
+    private volatile String value;
+
+    private LazyDecryptedString(String encryptedValue, StringEncryptor encryptor, String value,
+                                boolean encryptedForWrite) {
+        this.encryptedValue = encryptedValue;
+        this.encryptor = encryptor;
+        this.value = value;
+        this.encryptedForWrite = encryptedForWrite;
+    }
+
+    /**
+     * @param encryptedValue Значение из БД в зашифрованном виде.
+     * @param encryptor Шифратор, которым значение будет расшифровано при первом обращении.
+     * @return Строка, ещё не расшифрованная.
+     * @since 0.0.1-alpha
+     */
+    public static LazyDecryptedString ofEncrypted(String encryptedValue, StringEncryptor encryptor) {
+        return new LazyDecryptedString(encryptedValue, encryptor, null, false);
+    }
+
+    /**
+     * @param value Значение в открытом виде.
+     * @return Строка, расшифровывать которую не нужно. Если value - null, то и результат - null.
+     * @since 0.0.1-alpha
+     */
+    public static LazyDecryptedString ofPlain(String value) {
+        if (value == null) {
+            return null;
+        }
+        return new LazyDecryptedString(null, null, value, false);
+    }
+
+    /**
+     * @param lazyDecryptedString Строка, возможно null.
+     * @return Значение строки в открытом виде, либо null.
+     * @since 0.0.1-alpha
+     */
+    public static String valueOf(LazyDecryptedString lazyDecryptedString) {
+        if (lazyDecryptedString == null) {
+            return null;
+        }
+        return lazyDecryptedString.getValue();
+    }
+
+    /**
+     * Шифрует значение заранее - до сохранения сущности. Нужно, чтобы шифровать поля многих сущностей параллельно,
+     * а не по одному при сбросе сессии Hibernate в БД.
+     * @param encryptor Шифратор, которым значение будет записано в БД.
+     * @return Строка с тем же значением и готовым для записи в БД шифротекстом.
+     * @since 0.0.1-alpha
+     */
+    public LazyDecryptedString encryptedWith(StringEncryptor encryptor) {
+        String plainValue = getValue();
+
+        return new LazyDecryptedString(encryptor.encrypt(plainValue), encryptor, plainValue, true);
+    }
+
+    /**
+     * @return Шифротекст для записи в БД, если значение было зашифровано заранее методом encryptedWith, иначе null.
+     * Шифротекст, прочитанный из БД, не возвращается - при записи значение шифруется заново текущим шифратором.
+     * @since 0.0.1-alpha
+     */
+    public String getEncryptedValueForWrite() {
+        return encryptedForWrite ? encryptedValue : null;
+    }
+
+    /**
+     * @return Значение в открытом виде. Расшифровка выполняется только при первом вызове.
+     * @since 0.0.1-alpha
+     */
+    public String getValue() {
+        String decryptedValue = value;
+
+        if (decryptedValue == null) {
+            decryptedValue = encryptor.decrypt(encryptedValue);
+            value = decryptedValue;
+        }
+        return decryptedValue;
+    }
+
+    /**
+     * Один и тот же объект равен сам себе без расшифровки - так проверка изменений сущности при сбросе сессии
+     * Hibernate не расшифровывает неизменённые поля.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof LazyDecryptedString other)) {
+            return false;
+        }
+        return Objects.equals(getValue(), other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getValue());
+    }
+
+    /**
+     * Значение не выводится, чтобы не попасть в логи в открытом виде.
+     */
+    @Override
+    public String toString() {
+        return MASKED_VALUE;
+    }
+}
@@ -4,16 +4,30 @@ package fund.data.assets.utils.enums;
  * Валюта актива.
  * Перечень валют, для инвестирования в которых есть доступ в РФ, крайне ограничен. Потому вместо Entity
  * используется Enum c String для названия валюты.
+ * Денежные суммы в системе хранятся в минимальных единицах валюты (для рубля - в копейках), потому для каждой
+ * валюты указано количество знаков после запятой.
  * @version 0.0.1-alpha
  * @author MarkDementev a.k.a JavaMarkDem
  */
 public enum AssetCurrency {
-    NOT_IMPLEMENTED("Not implemented currency - for tests use only for now"),
-    RUSRUB("Russian ruble");
+    NOT_IMPLEMENTED("Not implemented currency - for tests use only for now", 2),
+    RUSRUB("Russian ruble", 2);
 
     private final String title;
+    private final int minorUnitDigits;
+    private final long minorUnitsInUnit;
 
-    AssetCurrency(String title) {
+    AssetCurrency(String title, int minorUnitDigits) {
         this.title = title;
+        this.minorUnitDigits = minorUnitDigits;
+        this.minorUnitsInUnit = (long) Math.pow(10, minorUnitDigits);
+    }
+
+    public int getMinorUnitDigits() {
+        return minorUnitDigits;
+    }
+
+    public long getMinorUnitsInUnit() {
+        return minorUnitsInUnit;
     }
 }
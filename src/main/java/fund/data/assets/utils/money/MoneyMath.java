@@ -0,0 +1,102 @@
+package fund.data.assets.utils.money;
+
+import fund.data.assets.utils.enums.AssetCurrency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Точная денежная арифметика без Float. Денежные суммы хранятся как long в минимальных единицах валюты
+ * (для рубля - в копейках), а процентные значения - как long с фиксированной точкой: доля, умноженная на
+ * PERCENT_SCALE (1% = 0.01 = 10 000). Операции над long не создают объектов, потому пригодны для "горячих" путей;
+ * переполнение не замалчивается, а приводит к ArithmeticException.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public final class MoneyMath {
+    public static final int PERCENT_SCALE_DIGITS = 6;
+    public static final long PERCENT_SCALE = 1_000_000L;
+
+    private MoneyMath() {
+    }
+
+    /**
+     * Применяет процентное значение к сумме с банковским округлением до минимальной единицы валюты.
+     * @param minorUnits Сумма в минимальных единицах валюты.
+     * @param percentValue Процентное значение с фиксированной точкой.
+     * @return Сумма, умноженная на процентное значение, в минимальных единицах валюты.
+     * @throws ArithmeticException При переполнении long.
+     * @since 0.0.1-alpha
+     */
+    public static long applyPercent(long minorUnits, long percentValue) {
+        return divideHalfEven(Math.multiplyExact(minorUnits, percentValue), PERCENT_SCALE);
+    }
+
+    /**
+     * Делит с банковским округлением (HALF_EVEN) к ближайшему целому.
+     * @param dividend Делимое.
+     * @param divisor Делитель, больше нуля.
+     * @return Округлённое частное.
+     * @since 0.0.1-alpha
+     */
+    public static long divideHalfEven(long dividend, long divisor) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long remainder = Math.floorMod(dividend, divisor);
+        long remainderToHalf = remainder - (divisor - remainder);
+
+        if (remainderToHalf > 0 || (remainderToHalf == 0 && (quotient & 1) != 0)) {
+            quotient++;
+        }
+        return quotient;
+    }
+
+    /**
+     * Переводит целое количество единиц валюты в минимальные единицы.
+     * @param units Количество единиц валюты, например, рублей.
+     * @param currency Валюта.
+     * @return Сумма в минимальных единицах валюты.
+     * @throws ArithmeticException При переполнении long.
+     * @since 0.0.1-alpha
+     */
+    public static long toMinorUnits(long units, AssetCurrency currency) {
+        return Math.multiplyExact(units, currency.getMinorUnitsInUnit());
+    }
+
+    /**
+     * Переводит десятичную сумму в минимальные единицы валюты с банковским округлением.
+     * @param amount Сумма в единицах валюты.
+     * @param currency Валюта.
+     * @return Сумма в минимальных единицах валюты.
+     * @throws ArithmeticException Если сумма не помещается в long.
+     * @since 0.0.1-alpha
+     */
+    public static long toMinorUnits(BigDecimal amount, AssetCurrency currency) {
+        return amount.movePointRight(currency.getMinorUnitDigits())
+                .setScale(0, RoundingMode.HALF_EVEN)
+                .longValueExact();
+    }
+
+    /**
+     * Переводит сумму в минимальных единицах валюты в десятичную сумму для отображения.
+     * @param minorUnits Сумма в минимальных единицах валюты.
+     * @param currency Валюта.
+     * @return Сумма в единицах валюты с количеством знаков после запятой, принятым для валюты.
+     * @since 0.0.1-alpha
+     */
+    public static BigDecimal toAmount(long minorUnits, AssetCurrency currency) {
+        return BigDecimal.valueOf(minorUnits, currency.getMinorUnitDigits());
+    }
+
+    /**
+     * Переводит долю в процентное значение с фиксированной точкой.
+     * @param fraction Доля, например, 0.01 для 1%.
+     * @return Процентное значение с фиксированной точкой.
+     * @throws ArithmeticException Если у доли больше PERCENT_SCALE_DIGITS знаков после запятой.
+     * @since 0.0.1-alpha
+     */
+    public static long toPercentValue(BigDecimal fraction) {
+        return fraction.movePointRight(PERCENT_SCALE_DIGITS)
+                .setScale(0, RoundingMode.UNNECESSARY)
+                .longValueExact();
+    }
+}
@@ -0,0 +1,123 @@
+package fund.data.assets.utils.pricing;
+
+import fund.data.assets.exception.UnrealAddingAssetsParameterException;
+import fund.data.assets.utils.FinancialAndAnotherConstants;
+import fund.data.assets.utils.money.MoneyMath;
+
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Расчёт показателей облигации с фиксированным купоном: комиссии, итоговой цены покупки и доходностей.
+ * Не хранит состояния и не обращается к БД, потому годится и для создания сущности FixedRateBond, и для
+ * пакетного пересчёта или анализа "что, если" по произвольному набору входных данных.
+ * Денежные суммы считаются точно в long (минимальные единицы валюты), а доходности - отношения сумм - в плавающей
+ * точке.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+@Component
+public class BondPricingEngine {
+    public static final String WRONG_DATE_BOND_PRICING_WARNING = "This is error - don't price already redeemed bond";
+
+    /**
+     * Рассчитывает все показатели облигации.
+     * @param input Исходные данные облигации.
+     * @return Рассчитанные показатели.
+     * @throws UnrealAddingAssetsParameterException Если дата погашения облигации раньше даты расчёта.
+     * @since 0.0.1-alpha
+     */
+    public BondPricingResult calculate(BondPricingInput input) {
+        long daysBeforeMaturity = calculateDaysBeforeMaturity(input);
+        long marketClearPrice = MoneyMath.applyPercent(input.bondParValue(), input.purchaseBondParValuePercent());
+        long purchaseTurnover = Math.multiplyExact(input.assetCount(), marketClearPrice + input.bondAccruedInterest());
+        long totalCommissionForPurchase = MoneyMath.applyPercent(purchaseTurnover, input.commissionPercentValue());
+        long totalAssetPurchasePriceWithCommission = Math.addExact(purchaseTurnover, totalCommissionForPurchase);
+        Float markDementevYieldIndicator = null;
+
+        if (input.markDementevYieldIndicatorApplicable()) {
+            markDementevYieldIndicator = calculateMarkDementevYieldIndicator(input,
+                    totalAssetPurchasePriceWithCommission, daysBeforeMaturity);
+        }
+        return new BondPricingResult(totalCommissionForPurchase, totalAssetPurchasePriceWithCommission,
+                calculateSimpleYieldToMaturity(input, marketClearPrice, daysBeforeMaturity),
+                markDementevYieldIndicator);
+    }
+
+    /**
+     * Рассчитывает показатели для набора облигаций.
+     * @param inputs Исходные данные облигаций.
+     * @return Рассчитанные показатели в порядке исходных данных.
+     * @throws UnrealAddingAssetsParameterException Если у какой-либо облигации дата погашения раньше даты расчёта.
+     * @since 0.0.1-alpha
+     */
+    public List<BondPricingResult> calculateAll(List<BondPricingInput> inputs) {
+        return inputs.stream()
+                .map(this::calculate)
+                .toList();
+    }
+
+    /**
+     * Возвращает простую доходность к погашению.
+     * Источник формулы - https://bcs-express.ru/novosti-i-analitika/dokhodnost-obligatsii-na-vse-sluchai-zhizni
+     * @param input Исходные данные облигации.
+     * @param marketClearPrice "Чистая" цена одной облигации.
+     * @param daysBeforeMaturity Количество дней до погашения.
+     * @return Простая доходность к погашению в % годовых, выраженная в десятичной форме. К примеру, 8% годовых = 0.08.
+     * @since 0.0.1-alpha
+     */
+    private float calculateSimpleYieldToMaturity(BondPricingInput input, long marketClearPrice,
+                                                 long daysBeforeMaturity) {
+        long allExpectedCouponPaymentsSum = Math.multiplyExact(input.bondCouponValue(),
+                input.expectedBondCouponPaymentsCount());
+
+        return (float) ((double) (input.bondParValue() - marketClearPrice
+                + (allExpectedCouponPaymentsSum - input.bondAccruedInterest())) / marketClearPrice
+                * FinancialAndAnotherConstants.YEAR_DAYS_COUNT / daysBeforeMaturity);
+    }
+
+    /**
+     * Возвращает "неакадемический параметр" реальной доходности % в год - основной параметр Фонда
+     * для отбора облигаций с фиксированным купоном.
+     * @param input Исходные данные облигации.
+     * @param totalAssetPurchasePriceWithCommission Сколько заплачено за облигации с учётом НКД и комиссии.
+     * @param daysBeforeMaturity Количество дней до погашения.
+     * @return Показатель реальной доходности по облигации в % годовых.
+     * @since 0.0.1-alpha
+     */
+    private float calculateMarkDementevYieldIndicator(BondPricingInput input,
+                                                      long totalAssetPurchasePriceWithCommission,
+                                                      long daysBeforeMaturity) {
+        double expectedBondCouponPaymentsSum = (double) input.bondCouponValue()
+                * input.expectedBondCouponPaymentsCount();
+        double incomeTaxCorrection = FinancialAndAnotherConstants.RUSSIAN_TAX_SYSTEM_CORRECTION_VALUE;
+        double oneBondValueSummedWithHisCommission = (double) totalAssetPurchasePriceWithCommission
+                / input.assetCount();
+        double taxValueOfMaturityIncome = 0.00;
+
+        if (input.bondParValue() > oneBondValueSummedWithHisCommission) {
+            taxValueOfMaturityIncome = incomeTaxCorrection
+                    * (input.bondParValue() - oneBondValueSummedWithHisCommission);
+        }
+        return (float) (((expectedBondCouponPaymentsSum * incomeTaxCorrection + input.bondParValue()
+                + taxValueOfMaturityIncome) / oneBondValueSummedWithHisCommission - 1)
+                / ((double) daysBeforeMaturity / FinancialAndAnotherConstants.YEAR_DAYS_COUNT));
+    }
+
+    /**
+     * Позволяет подсчитать, сколько облигация будет существовать с даты расчёта, если держать её до погашения.
+     * @param input Исходные данные облигации.
+     * @return Количество дней с даты расчёта до дня погашения.
+     * @throws UnrealAddingAssetsParameterException Если облигация на дату расчёта уже погашена.
+     * @since 0.0.1-alpha
+     */
+    private long calculateDaysBeforeMaturity(BondPricingInput input) {
+        long daysBeforeMaturity = input.maturityEpochDay() - input.valuationEpochDay();
+
+        if (daysBeforeMaturity < 0) {
+            throw new UnrealAddingAssetsParameterException(WRONG_DATE_BOND_PRICING_WARNING);
+        }
+        return daysBeforeMaturity;
+    }
+}
@@ -0,0 +1,33 @@
+package fund.data.assets.utils.pricing;
+
+/**
+ * Исходные данные для расчёта показателей облигации с фиксированным купоном в {@link BondPricingEngine}.
+ * Содержит только примитивы, чтобы расчёт не зависел от JPA-сущностей и мог вестись пачками для анализа
+ * "что, если". Даты передаются как количество дней от эпохи (LocalDate.toEpochDay()), денежные суммы - в
+ * минимальных единицах валюты, процентные значения - доли с фиксированной точкой, см.
+ * {@link fund.data.assets.utils.money.MoneyMath}.
+ * @param assetCount Количество облигаций.
+ * @param bondParValue Номинальная стоимость облигации.
+ * @param purchaseBondParValuePercent "Чистая" цена облигации при покупке - % от номинала.
+ * @param bondAccruedInterest НКД облигации при покупке.
+ * @param commissionPercentValue Размер процента комиссии с оборота, 0 - если комиссия не взимается.
+ * @param bondCouponValue Размер купонной выплаты.
+ * @param expectedBondCouponPaymentsCount Ожидаемое количество купонных выплат до даты погашения.
+ * @param maturityEpochDay Дата погашения облигации.
+ * @param valuationEpochDay Дата, на которую рассчитываются доходности - при покупке это дата покупки.
+ * @param markDementevYieldIndicatorApplicable Рассчитывать ли показатель реальной доходности - он применим только
+ * к рублёвым облигациям с комиссией с оборота и налогообложением по купонам, дивидендам и сделкам.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public record BondPricingInput(int assetCount,
+                               long bondParValue,
+                               long purchaseBondParValuePercent,
+                               long bondAccruedInterest,
+                               long commissionPercentValue,
+                               long bondCouponValue,
+                               int expectedBondCouponPaymentsCount,
+                               long maturityEpochDay,
+                               long valuationEpochDay,
+                               boolean markDementevYieldIndicatorApplicable) {
+}
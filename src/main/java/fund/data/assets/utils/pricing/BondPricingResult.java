@@ -0,0 +1,17 @@
+package fund.data.assets.utils.pricing;
+
+/**
+ * Показатели облигации с фиксированным купоном, рассчитанные {@link BondPricingEngine}.
+ * Денежные суммы - в минимальных единицах валюты.
+ * @param totalCommissionForPurchase Совокупная комиссия при покупке облигаций.
+ * @param totalAssetPurchasePriceWithCommission Сколько надо заплатить за облигации с учётом НКД и комиссии.
+ * @param simpleYieldToMaturity Простая доходность к погашению в десятичной форме.
+ * @param markDementevYieldIndicator Показатель реальной доходности % в год, либо null, если он неприменим.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public record BondPricingResult(long totalCommissionForPurchase,
+                                long totalAssetPurchasePriceWithCommission,
+                                float simpleYieldToMaturity,
+                                Float markDementevYieldIndicator) {
+}
@@ -9,6 +9,8 @@ import java.lang.annotation.Documented;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_UNIQUE_MOBILE_PHONE_WARNING;
+
 import static java.lang.annotation.ElementType.FIELD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 
@@ -17,7 +19,7 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Retention(RUNTIME)
 @Documented
 public @interface UniqueEncryptedMobilePhone {
-    String message() default "This mobile phone is not unique in this table!";
+    String message() default NOT_UNIQUE_MOBILE_PHONE_WARNING;
     Class<?>[] groups() default { };
     Class<? extends Payload>[] payload() default { };
 }
@@ -0,0 +1,11 @@
+package fund.data.assets.validation.group;
+
+/**
+ * Группа валидации для проверок уникальности, которые обращаются к БД - по одному запросу на каждое поле.
+ * При создании одного собственника группа проверяется вместе с Default. При массовом импорте она не проверяется,
+ * т.к. уникальность всей порции проверяется в сервисе несколькими запросами с IN вместо запроса на каждую строку.
+ * @version 0.0.1-alpha
+ * @author MarkDementev a.k.a JavaMarkDem
+ */
+public interface DatabaseUniquenessChecks {
+}
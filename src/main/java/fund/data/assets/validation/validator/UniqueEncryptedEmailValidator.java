@@ -1,6 +1,6 @@
 package fund.data.assets.validation.validator;
 
-import fund.data.assets.model.owner.RussianAssetsOwner;
+import fund.data.assets.utils.BlindIndexCalculator;
 import fund.data.assets.validation.annotation.UniqueEncryptedEmail;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 
@@ -13,24 +13,21 @@ import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @AllArgsConstructor
 @NoArgsConstructor
 public class UniqueEncryptedEmailValidator implements ConstraintValidator<UniqueEncryptedEmail, String> {
     @Autowired
     RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    @Autowired
+    BlindIndexCalculator blindIndexCalculator;
 
     @Override
     public boolean isValid(String email, ConstraintValidatorContext context) {
-        List<RussianAssetsOwner> russianAssetsOwnerList = russianAssetsOwnerRepository.findAll();
-
-        for (RussianAssetsOwner owner : russianAssetsOwnerList) {
-            if (owner.getEmail().equals(email)) {
-                return false;
-            }
+        if (email == null) {
+            return true;
         }
-        return true;
+        return !russianAssetsOwnerRepository.existsByEmailBlindIndex(
+                blindIndexCalculator.calculateEmailBlindIndex(email));
     }
 }
@@ -1,8 +1,8 @@
 package fund.data.assets.validation.validator;
 
-import fund.data.assets.model.owner.RussianAssetsOwner;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 import fund.data.assets.service.RussianAssetsOwnerService;
+import fund.data.assets.utils.BlindIndexCalculator;
 import fund.data.assets.validation.annotation.UniqueEncryptedMobilePhone;
 
 import jakarta.validation.ConstraintValidator;
@@ -14,8 +14,6 @@ import lombok.NoArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @AllArgsConstructor
 @NoArgsConstructor
@@ -24,17 +22,16 @@ public class UniqueEncryptedMobilePhoneValidator implements ConstraintValidator<
     RussianAssetsOwnerRepository russianAssetsOwnerRepository;
     @Autowired
     RussianAssetsOwnerService russianAssetsOwnerService;
+    @Autowired
+    BlindIndexCalculator blindIndexCalculator;
 
     @Override
     public boolean isValid(String mobilePhone, ConstraintValidatorContext context) {
-        List<RussianAssetsOwner> russianAssetsOwnerList = russianAssetsOwnerRepository.findAll();
-
-        for (RussianAssetsOwner owner : russianAssetsOwnerList) {
-            if (owner.getMobilePhoneNumber().equals(russianAssetsOwnerService
-                    .addRussianNumberPrefixPhoneNumber(mobilePhone))) {
-                return false;
-            }
+        if (mobilePhone == null) {
+            return true;
         }
-        return true;
+        return !russianAssetsOwnerRepository.existsByMobilePhoneBlindIndex(blindIndexCalculator
+                .calculateMobilePhoneBlindIndex(russianAssetsOwnerService.addRussianNumberPrefixPhoneNumber(
+                        mobilePhone)));
     }
 }
@@ -11,19 +11,28 @@ import fund.data.assets.dto.common.PercentFloatValueDTO;
 import fund.data.assets.dto.owner.NewRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.ContactDataRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.PersonalDataRussianAssetsOwnerDTO;
+import fund.data.assets.model.asset.exchange.FixedRateBond;
 import fund.data.assets.repository.AccountRepository;
 import fund.data.assets.repository.AccountCashRepository;
+import fund.data.assets.repository.CashOperationIdempotencyKeyRepository;
+import fund.data.assets.repository.FixedRateBondRepository;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 import fund.data.assets.repository.TurnoverCommissionValueRepository;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot;
 import fund.data.assets.utils.enums.AssetCurrency;
+import fund.data.assets.utils.pricing.BondPricingEngine;
+
+import jakarta.persistence.EntityManager;
 
 import org.openapitools.jackson.nullable.JsonNullable;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Component;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.ResultActions;
-import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 
@@ -41,8 +50,8 @@ public class TestUtils {
     public static final String TEST_COMMISSION_PERCENT_VALUE = "1";
     public static final String TEST_ASSET_TYPE_NAME = "assetTypeName";
     public static final String TEST_STRING_FORMAT_PERCENT_VALUE = "20,1234";
-    public static final Float TEST_FORMATTED_PERCENT_VALUE_FLOAT = 0.201234F;
-    public static final Float TEST_COMMISSION_PERCENT_VALUE_FLOAT = 0.01F;
+    public static final Long TEST_FORMATTED_PERCENT_VALUE_FIXED_POINT = 201234L;
+    public static final Long TEST_COMMISSION_PERCENT_VALUE_FIXED_POINT = 10000L;
     private static final ObjectMapper MAPPER = new ObjectMapper().findAndRegisterModules();
     @Autowired
     private MockMvc mockMvc;
@@ -54,6 +63,20 @@ public class TestUtils {
     private RussianAssetsOwnerRepository russianAssetsOwnerRepository;
     @Autowired
     private AccountCashRepository accountCashRepository;
+    @Autowired
+    private CashOperationIdempotencyKeyRepository cashOperationIdempotencyKeyRepository;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private FixedRateBondRepository fixedRateBondRepository;
+    @Autowired
+    private FixedRateBondAnalyticsSnapshot fixedRateBondAnalyticsSnapshot;
+    @Autowired
+    private BondPricingEngine bondPricingEngine;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     private final AccountDTO accountDTO = new AccountDTO(
             "defaultBank",
@@ -140,7 +163,15 @@ public class TestUtils {
                     JsonNullable.of("999-99"));
 
     public void tearDown() {
+        fixedRateBondRepository.findAll().forEach(bond -> fixedRateBondAnalyticsSnapshot.remove(bond.getId()));
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.createQuery("update Asset a set a.assetRelationship = null").executeUpdate();
+            entityManager.createQuery("delete from AssetRelationship").executeUpdate();
+            entityManager.createQuery("delete from Asset").executeUpdate();
+        });
         accountCashRepository.deleteAll();
+        cashOperationIdempotencyKeyRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
         russianAssetsOwnerRepository.deleteAll();
         turnoverCommissionValueRepository.deleteAll();
         accountRepository.deleteAll();
@@ -230,11 +261,29 @@ public class TestUtils {
                 accountRepository.findAll().get(0).getId(),
                 AssetCurrency.RUSRUB,
                 russianAssetsOwnerRepository.findAll().get(0).getId(),
-                0.00F
+                0L
         );
         return createAccountCash(accountCashDTO);
     }
 
+    /**
+     * Облигации пока нельзя купить через API, потому облигация сохраняется напрямую - вместе со связью
+     * с первым счётом и первым собственником в БД.
+     */
+    public FixedRateBond createFixedRateBond(final String iSIN, final Integer assetCount) {
+        return transactionTemplate.execute(status -> {
+            FixedRateBond fixedRateBond = new FixedRateBond(AssetCurrency.RUSRUB, "bondTitle", assetCount, iSIN,
+                    "bondIssuer", LocalDate.now(), 100000L, 950000L, 1500L, accountRepository.findAll().get(0),
+                    russianAssetsOwnerRepository.findAll().get(0), 4000L, 4, LocalDate.now().plusYears(2));
+
+            fixedRateBond.applyPricing(bondPricingEngine.calculate(fixedRateBond.toPurchasePricingInput(0L)));
+
+            entityManager.persist(fixedRateBond);
+            entityManager.persist(fixedRateBond.getAssetRelationship());
+            return fixedRateBond;
+        });
+    }
+
     public ResultActions createAccount(final AccountDTO accountDTO) throws Exception {
         final var request = post("/data" + ACCOUNT_CONTROLLER_PATH)
                 .content(asJson(accountDTO))
@@ -269,7 +318,7 @@ public class TestUtils {
         return perform(request);
     }
 
-    public ResultActions perform(final MockHttpServletRequestBuilder request) throws Exception {
+    public ResultActions perform(final RequestBuilder request) throws Exception {
         return mockMvc.perform(request);
     }
 
@@ -5,9 +5,12 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import fund.data.assets.TestUtils;
 import fund.data.assets.config.SpringConfigForTests;
 import fund.data.assets.dto.AccountCashDTO;
+import fund.data.assets.job.CashBalanceCompactionJob;
 import fund.data.assets.model.financial_entities.AccountCash;
+import fund.data.assets.model.financial_entities.CashMovement;
 import fund.data.assets.repository.AccountRepository;
 import fund.data.assets.repository.AccountCashRepository;
+import fund.data.assets.repository.CashMovementRepository;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 import fund.data.assets.utils.enums.AssetCurrency;
 
@@ -21,8 +24,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static fund.data.assets.TestUtils.asJson;
 import static fund.data.assets.TestUtils.fromJson;
@@ -30,7 +37,11 @@ import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
 import static fund.data.assets.controller.AccountController.ACCOUNT_CONTROLLER_PATH;
 import static fund.data.assets.controller.AccountController.ID_PATH;
 import static fund.data.assets.controller.AccountCashController.ACCOUNT_CASH_CONTROLLER_PATH;
+import static fund.data.assets.controller.AccountCashController.BATCH_PATH;
+import static fund.data.assets.controller.AccountCashController.IDEMPOTENCY_KEY_HEADER;
+import static fund.data.assets.controller.AccountCashController.MOVEMENTS_PATH;
 import static fund.data.assets.controller.RussianAssetsOwnerController.RUSSIAN_OWNERS_CONTROLLER_PATH;
+import static fund.data.assets.service.impl.AccountCashServiceImpl.DELETED_CASH_OF_IDEMPOTENT_OPERATION_WARNING;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -48,6 +59,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ActiveProfiles(TEST_PROFILE)
 @AutoConfigureMockMvc
 public class AccountCashControllerIT {
+    public static final String TEST_IDEMPOTENCY_KEY = "coupon-settlement-2024-01-01-1";
     @Autowired
     private TestUtils testUtils;
     @Autowired
@@ -56,6 +68,12 @@ public class AccountCashControllerIT {
     private AccountRepository accountRepository;
     @Autowired
     private RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    @Autowired
+    private CashBalanceCompactionJob cashBalanceCompactionJob;
+    @Autowired
+    private CashMovementRepository cashMovementRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @AfterEach
     public void clearRepositories() {
@@ -105,7 +123,7 @@ public class AccountCashControllerIT {
                 accountRepository.findAll().get(0).getId(),
                 AssetCurrency.RUSRUB,
                 russianAssetsOwnerRepository.findAll().get(0).getId(),
-                0.00F
+                0L
         );
         var response = testUtils.perform(
                         post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
@@ -141,12 +159,12 @@ public class AccountCashControllerIT {
                 accountRepository.findAll().get(0).getId(),
                 AssetCurrency.RUSRUB,
                 russianAssetsOwnerRepository.findAll().get(0).getId(),
-                10.00F
+                1000L
         );
         testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
                 .content(asJson(accountCashDTOWithNotUniqueTableConstraints))
                 .contentType(APPLICATION_JSON));
-        accountCashDTOWithNotUniqueTableConstraints.setAmount(15.00F);
+        accountCashDTOWithNotUniqueTableConstraints.setAmount(1500L);
         testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
                 .content(asJson(accountCashDTOWithNotUniqueTableConstraints))
                 .contentType(APPLICATION_JSON));
@@ -161,7 +179,7 @@ public class AccountCashControllerIT {
                 accountRepository.findAll().get(0).getId(),
                 AssetCurrency.RUSRUB,
                 russianAssetsOwnerRepository.findAll().get(0).getId(),
-                15.00F
+                1500L
         );
         testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
                 .content(asJson(accountCashDTOWithPositiveAmount))
@@ -169,13 +187,13 @@ public class AccountCashControllerIT {
         testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
                 .content(asJson(accountCashDTOWithPositiveAmount))
                 .contentType(APPLICATION_JSON));
-        assertEquals(accountCashRepository.findAll().get(0).getAmount(), 30.00F);
+        assertEquals(accountCashRepository.findAll().get(0).getAmount(), 3000L);
 
         AccountCashDTO accountCashDTOWithNegativeAmount = new AccountCashDTO(
                 accountRepository.findAll().get(0).getId(),
                 AssetCurrency.RUSRUB,
                 russianAssetsOwnerRepository.findAll().get(0).getId(),
-                -10.00F
+                -1000L
         );
         testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
                 .content(asJson(accountCashDTOWithNegativeAmount))
@@ -188,7 +206,7 @@ public class AccountCashControllerIT {
                 .andReturn()
                 .getResponse();
         AccountCash accountCashFromResponse = fromJson(response.getContentAsString(), new TypeReference<>() {});
-        assertEquals(accountCashRepository.findAll().get(0).getAmount(), 10.00F);
+        assertEquals(accountCashRepository.findAll().get(0).getAmount(), 1000L);
         assertNotNull(accountCashFromResponse.getId());
         assertEquals(accountCashDTOWithNegativeAmount.getAccountID(), accountCashFromResponse.getAccount().getId());
         assertEquals(accountCashDTOWithNegativeAmount.getAssetCurrency(), accountCashFromResponse.getAssetCurrency());
@@ -206,13 +224,13 @@ public class AccountCashControllerIT {
                 accountRepository.findAll().get(0).getId(),
                 AssetCurrency.RUSRUB,
                 russianAssetsOwnerRepository.findAll().get(0).getId(),
-                -10.00F
+                -1000L
         );
         Assertions.assertThrows(ServletException.class,
                 () -> testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
                         .content(asJson(accountCashDTOWithNegativeAmount))
                         .contentType(APPLICATION_JSON)));
-        assertEquals(accountCashRepository.findAll().get(0).getAmount(), 0.00F);
+        assertEquals(accountCashRepository.findAll().get(0).getAmount(), 0L);
     }
 
     @Test
@@ -237,4 +255,250 @@ public class AccountCashControllerIT {
                 .getResponse();
         assertThat(accountCashRepository.findAll()).hasSize(0);
     }
+
+    @Test
+    public void getCashMovementsAndCompactBalanceIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        AccountCashDTO accountCashDTO = new AccountCashDTO(
+                accountRepository.findAll().get(0).getId(),
+                AssetCurrency.RUSRUB,
+                russianAssetsOwnerRepository.findAll().get(0).getId(),
+                1500L
+        );
+        testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                .content(asJson(accountCashDTO))
+                .contentType(APPLICATION_JSON));
+        accountCashDTO.setAmount(-1000L);
+        testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                .content(asJson(accountCashDTO))
+                .contentType(APPLICATION_JSON));
+
+        Long accountCashId = accountCashRepository.findAll().get(0).getId();
+        var response = testUtils.perform(get("/data" + ACCOUNT_CASH_CONTROLLER_PATH + ID_PATH + MOVEMENTS_PATH,
+                        accountCashId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<CashMovement> cashMovements = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        assertThat(cashMovements).extracting(CashMovement::getAmount).containsExactly(0L, 1500L, -1000L);
+
+        cashBalanceCompactionJob.compactBalances();
+        AccountCash compactedAccountCash = accountCashRepository.findAll().get(0);
+        assertEquals(500L, compactedAccountCash.getSnapshotAmount());
+        assertEquals(1L, compactedAccountCash.getSnapshotNumber());
+        assertEquals(500L, compactedAccountCash.getAmount());
+        assertThat(cashMovementRepository.findAll()).extracting(CashMovement::getCompactedIntoSnapshot)
+                .containsOnly(1L);
+    }
+
+    @Test
+    public void compactBalanceWhileDepositIsNotCommittedIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        Long accountCashId = accountCashRepository.findAll().get(0).getId();
+        CountDownLatch depositInserted = new CountDownLatch(1);
+        CountDownLatch commitDeposit = new CountDownLatch(1);
+        CompletableFuture<Void> notCommittedDeposit = CompletableFuture.runAsync(
+                () -> transactionTemplate.executeWithoutResult(status -> {
+                    cashMovementRepository.saveAndFlush(new CashMovement(
+                            accountCashRepository.getReferenceById(accountCashId), 700L));
+                    depositInserted.countDown();
+                    try {
+                        commitDeposit.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+
+        try {
+            Assertions.assertTrue(depositInserted.await(10, TimeUnit.SECONDS));
+            testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                    .content(asJson(new AccountCashDTO(accountRepository.findAll().get(0).getId(), AssetCurrency.RUSRUB,
+                            russianAssetsOwnerRepository.findAll().get(0).getId(), 1500L)))
+                    .contentType(APPLICATION_JSON))
+                    .andExpect(status().isOk());
+            CompletableFuture.runAsync(cashBalanceCompactionJob::compactBalances).get(10, TimeUnit.SECONDS);
+            assertEquals(1500L, accountCashRepository.findAll().get(0).getSnapshotAmount());
+        } finally {
+            commitDeposit.countDown();
+        }
+        notCommittedDeposit.get(10, TimeUnit.SECONDS);
+        assertEquals(2200L, accountCashRepository.findAll().get(0).getAmount());
+
+        cashBalanceCompactionJob.compactBalances();
+        AccountCash compactedAccountCash = accountCashRepository.findAll().get(0);
+        assertEquals(2200L, compactedAccountCash.getSnapshotAmount());
+        assertEquals(2L, compactedAccountCash.getSnapshotNumber());
+        assertEquals(2200L, compactedAccountCash.getAmount());
+    }
+
+    @Test
+    public void depositOrWithdrawCashAmountsIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        Long accountId = accountRepository.findAll().get(0).getId();
+        Long assetsOwnerId = russianAssetsOwnerRepository.findAll().get(0).getId();
+        List<AccountCashDTO> accountCashDTOs = List.of(
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, 1500L),
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, 1500L),
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, -1000L)
+        );
+        var response = testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH + BATCH_PATH)
+                        .content(asJson(accountCashDTOs))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<AccountCash> accountCashesFromResponse = fromJson(response.getContentAsString(),
+                new TypeReference<>() {});
+
+        assertThat(accountCashesFromResponse).hasSize(1);
+        assertEquals(2000L, accountCashesFromResponse.get(0).getAmount());
+        assertEquals(2000L, accountCashRepository.findAll().get(0).getAmount());
+        assertThat(cashMovementRepository.findAll()).hasSize(4);
+    }
+
+    @Test
+    public void notValidDepositOrWithdrawCashAmountsIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        Long accountId = accountRepository.findAll().get(0).getId();
+        Long assetsOwnerId = russianAssetsOwnerRepository.findAll().get(0).getId();
+        List<AccountCashDTO> accountCashDTOs = List.of(
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, 1500L),
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, -2000L)
+        );
+        Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH + BATCH_PATH)
+                        .content(asJson(accountCashDTOs))
+                        .contentType(APPLICATION_JSON)));
+        assertEquals(0L, accountCashRepository.findAll().get(0).getAmount());
+        assertThat(cashMovementRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    public void withdrawBeforeDepositInCashAmountsBatchIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        Long accountId = accountRepository.findAll().get(0).getId();
+        Long assetsOwnerId = russianAssetsOwnerRepository.findAll().get(0).getId();
+        testUtils.createAccountCash(new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, 1000L));
+
+        List<AccountCashDTO> accountCashDTOs = List.of(
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, -2000L),
+                new AccountCashDTO(accountId, AssetCurrency.RUSRUB, assetsOwnerId, 1500L)
+        );
+        Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH + BATCH_PATH)
+                        .content(asJson(accountCashDTOs))
+                        .contentType(APPLICATION_JSON)));
+        assertEquals(1000L, accountCashRepository.findAll().get(0).getAmount());
+        assertThat(cashMovementRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    public void depositCashAmountWithIdempotencyKeyIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        AccountCashDTO accountCashDTO = new AccountCashDTO(
+                accountRepository.findAll().get(0).getId(),
+                AssetCurrency.RUSRUB,
+                russianAssetsOwnerRepository.findAll().get(0).getId(),
+                1500L
+        );
+        for (int i = 0; i < 2; i++) {
+            var response = testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                            .header(IDEMPOTENCY_KEY_HEADER, TEST_IDEMPOTENCY_KEY)
+                            .content(asJson(accountCashDTO))
+                            .contentType(APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            AccountCash accountCashFromResponse = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+            assertEquals(1500L, accountCashFromResponse.getAmount());
+        }
+        assertEquals(1500L, accountCashRepository.findAll().get(0).getAmount());
+        assertThat(cashMovementRepository.findAll()).hasSize(2);
+
+        accountCashDTO.setAmount(1000L);
+        Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                        .header(IDEMPOTENCY_KEY_HEADER, TEST_IDEMPOTENCY_KEY)
+                        .content(asJson(accountCashDTO))
+                        .contentType(APPLICATION_JSON)));
+        assertEquals(1500L, accountCashRepository.findAll().get(0).getAmount());
+    }
+
+    @Test
+    public void repeatIdempotentOperationAfterAnotherOperationIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        AccountCashDTO accountCashDTO = new AccountCashDTO(
+                accountRepository.findAll().get(0).getId(),
+                AssetCurrency.RUSRUB,
+                russianAssetsOwnerRepository.findAll().get(0).getId(),
+                1500L
+        );
+        AccountCashDTO anotherAccountCashDTO = new AccountCashDTO(
+                accountCashDTO.getAccountID(),
+                AssetCurrency.RUSRUB,
+                accountCashDTO.getAssetsOwnerID(),
+                500L
+        );
+        testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                        .header(IDEMPOTENCY_KEY_HEADER, TEST_IDEMPOTENCY_KEY)
+                        .content(asJson(accountCashDTO))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+        testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                        .content(asJson(anotherAccountCashDTO))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+
+        var response = testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                        .header(IDEMPOTENCY_KEY_HEADER, TEST_IDEMPOTENCY_KEY)
+                        .content(asJson(accountCashDTO))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        AccountCash accountCashFromResponse = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        assertEquals(accountCashRepository.findAll().get(0).getId(), accountCashFromResponse.getId());
+        assertEquals(1500L, accountCashFromResponse.getAmount());
+        assertEquals(2000L, accountCashRepository.findAll().get(0).getAmount());
+        assertThat(cashMovementRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    public void repeatIdempotentOperationOfDeletedCashIT() throws Exception {
+        testUtils.createDefaultAccountCash();
+
+        Long createdAccountId = accountRepository.findAll().get(0).getId();
+        AccountCashDTO accountCashDTO = new AccountCashDTO(
+                createdAccountId,
+                AssetCurrency.RUSRUB,
+                russianAssetsOwnerRepository.findAll().get(0).getId(),
+                1500L
+        );
+        testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                        .header(IDEMPOTENCY_KEY_HEADER, TEST_IDEMPOTENCY_KEY)
+                        .content(asJson(accountCashDTO))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+        testUtils.perform(delete("/data" + ACCOUNT_CONTROLLER_PATH + ID_PATH, createdAccountId))
+                .andExpect(status().isOk());
+        assertThat(accountCashRepository.findAll()).hasSize(0);
+
+        testUtils.perform(post("/data" + ACCOUNT_CASH_CONTROLLER_PATH)
+                        .header(IDEMPOTENCY_KEY_HEADER, TEST_IDEMPOTENCY_KEY)
+                        .content(asJson(accountCashDTO))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isNotFound())
+                .andExpect(status().reason(DELETED_CASH_OF_IDEMPOTENT_OPERATION_WARNING));
+        assertThat(accountCashRepository.findAll()).hasSize(0);
+    }
 }
@@ -7,8 +7,12 @@ import fund.data.assets.config.SpringConfigForTests;
 import fund.data.assets.model.financial_entities.Account;
 import fund.data.assets.repository.AccountRepository;
 
+import jakarta.persistence.EntityManagerFactory;
 import jakarta.servlet.ServletException;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -22,9 +26,11 @@ import java.util.List;
 
 import static fund.data.assets.TestUtils.asJson;
 import static fund.data.assets.TestUtils.fromJson;
+import static fund.data.assets.config.CacheConfig.ACCOUNTS_REGION;
 import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
 import static fund.data.assets.controller.AccountController.ACCOUNT_CONTROLLER_PATH;
 import static fund.data.assets.controller.AccountController.ID_PATH;
+import static fund.data.assets.utils.KeysetPagination.NEXT_AFTER_ID_HEADER;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -49,6 +55,8 @@ class AccountControllerIT {
 	private TestUtils testUtils;
 	@Autowired
 	private AccountRepository accountRepository;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
 
 	@AfterEach
 	public void clearRepositories() {
@@ -79,6 +87,25 @@ class AccountControllerIT {
 		assertNotNull(accountFromResponse.getCreatedAt());
 	}
 
+	@Test
+	public void getAccountFromSecondLevelCacheIT() throws Exception {
+		testUtils.createDefaultAccount();
+
+		Long accountId = accountRepository.findByOrganisationWhereAccountOpened(
+				testUtils.getAccountDTO().getOrganisationWhereAccountOpened()).getId();
+		CacheRegionStatistics accountsRegionStatistics = entityManagerFactory.unwrap(SessionFactory.class)
+				.getStatistics()
+				.getDomainDataRegionStatistics(ACCOUNTS_REGION);
+		long hitCountBeforeRequests = accountsRegionStatistics.getHitCount();
+
+		testUtils.perform(get("/data" + ACCOUNT_CONTROLLER_PATH + ID_PATH, accountId))
+				.andExpect(status().isOk());
+		testUtils.perform(get("/data" + ACCOUNT_CONTROLLER_PATH + ID_PATH, accountId))
+				.andExpect(status().isOk());
+
+		assertThat(accountsRegionStatistics.getHitCount()).isGreaterThan(hitCountBeforeRequests);
+	}
+
 	@Test
 	public void getAccountsIT() throws Exception {
 		testUtils.createDefaultAccount();
@@ -94,6 +121,49 @@ class AccountControllerIT {
 		});
 
 		assertThat(allAccounts).hasSize(1);
+		assertNull(response.getHeader(NEXT_AFTER_ID_HEADER));
+	}
+
+	@Test
+	public void getAccountsKeysetPageIT() throws Exception {
+		testUtils.createDefaultAccount();
+		testUtils.createDefaultSecondAccount();
+
+		var firstPageResponse = testUtils.perform(
+						get("/data" + ACCOUNT_CONTROLLER_PATH).param("pageSize", "1")
+				)
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse();
+		List<Account> firstPage = fromJson(firstPageResponse.getContentAsString(), new TypeReference<>() {
+		});
+		var secondPageResponse = testUtils.perform(
+						get("/data" + ACCOUNT_CONTROLLER_PATH)
+								.param("afterId", firstPageResponse.getHeader(NEXT_AFTER_ID_HEADER))
+								.param("pageSize", "1")
+				)
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse();
+		List<Account> secondPage = fromJson(secondPageResponse.getContentAsString(), new TypeReference<>() {
+		});
+		var lastPageResponse = testUtils.perform(
+						get("/data" + ACCOUNT_CONTROLLER_PATH)
+								.param("afterId", secondPageResponse.getHeader(NEXT_AFTER_ID_HEADER))
+								.param("pageSize", "1")
+				)
+				.andExpect(status().isOk())
+				.andReturn()
+				.getResponse();
+		List<Account> lastPage = fromJson(lastPageResponse.getContentAsString(), new TypeReference<>() {
+		});
+
+		assertThat(firstPage).hasSize(1);
+		assertEquals(String.valueOf(firstPage.get(0).getId()), firstPageResponse.getHeader(NEXT_AFTER_ID_HEADER));
+		assertThat(secondPage).hasSize(1);
+		assertThat(secondPage.get(0).getId()).isGreaterThan(firstPage.get(0).getId());
+		assertThat(lastPage).isEmpty();
+		assertNull(lastPageResponse.getHeader(NEXT_AFTER_ID_HEADER));
 	}
 
 	@Test
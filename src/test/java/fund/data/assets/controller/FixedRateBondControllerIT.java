@@ -0,0 +1,219 @@
+package fund.data.assets.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import fund.data.assets.TestUtils;
+import fund.data.assets.config.SpringConfigForTests;
+import fund.data.assets.dto.FixedRateBondHoldingDTO;
+import fund.data.assets.model.asset.exchange.FixedRateBond;
+import fund.data.assets.repository.AccountRepository;
+import fund.data.assets.repository.RussianAssetsOwnerRepository;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.ISINHoldings;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.MaturityBucket;
+import fund.data.assets.utils.analytics.FixedRateBondMetrics;
+
+import jakarta.servlet.ServletException;
+
+import org.junit.jupiter.api.Assertions;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static fund.data.assets.TestUtils.fromJson;
+import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
+import static fund.data.assets.controller.FixedRateBondController.EXPORT_PATH;
+import static fund.data.assets.controller.FixedRateBondController.FIXED_RATE_BOND_CONTROLLER_PATH;
+import static fund.data.assets.controller.FixedRateBondController.ISIN_HOLDINGS_PATH;
+import static fund.data.assets.controller.FixedRateBondController.ISIN_PATH;
+import static fund.data.assets.controller.FixedRateBondController.MATURITY_BUCKETS_PATH;
+import static fund.data.assets.controller.FixedRateBondController.NDJSON_MEDIA_TYPE;
+import static fund.data.assets.controller.FixedRateBondController.TOP_BY_YIELD_PATH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = SpringConfigForTests.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles(TEST_PROFILE)
+@AutoConfigureMockMvc
+public class FixedRateBondControllerIT {
+    public static final String TEST_ISIN = "RU000A0JX0J2";
+    public static final String TEST_SECOND_ISIN = "RU000A0ZYG52";
+    public static final String TEST_NOT_HELD_ISIN = "RU000A1000F9";
+    @Autowired
+    private TestUtils testUtils;
+    @Autowired
+    private FixedRateBondAnalyticsSnapshot fixedRateBondAnalyticsSnapshot;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+
+    @BeforeEach
+    public void prepareOwnerAndAccount() throws Exception {
+        testUtils.createDefaultAccount();
+        testUtils.createDefaultRussianAssetsOwner();
+    }
+
+    @AfterEach
+    public void clearRepositories() {
+        testUtils.tearDown();
+    }
+
+    @Test
+    public void getFixedRateBondsByISINIT() throws Exception {
+        FixedRateBond firstBond = testUtils.createFixedRateBond(TEST_ISIN, 10);
+        FixedRateBond secondBond = testUtils.createFixedRateBond(TEST_ISIN, 5);
+        testUtils.createFixedRateBond(TEST_SECOND_ISIN, 7);
+
+        assertThat(getBondIdsByISIN(TEST_ISIN)).containsExactly(firstBond.getId(), secondBond.getId());
+        assertThat(getBondIdsByISIN(TEST_NOT_HELD_ISIN)).isEmpty();
+    }
+
+    @Test
+    public void getFixedRateBondsByISINNotInSnapshotIT() throws Exception {
+        FixedRateBond firstBond = testUtils.createFixedRateBond(TEST_ISIN, 10);
+        FixedRateBond secondBond = testUtils.createFixedRateBond(TEST_ISIN, 5);
+
+        fixedRateBondAnalyticsSnapshot.remove(firstBond.getId());
+        fixedRateBondAnalyticsSnapshot.remove(secondBond.getId());
+        assertThat(getBondIdsByISIN(TEST_ISIN)).containsExactly(firstBond.getId(), secondBond.getId());
+    }
+
+    @Test
+    public void getFixedRateBondHoldingsByISINIT() throws Exception {
+        FixedRateBond bond = testUtils.createFixedRateBond(TEST_ISIN, 10);
+        testUtils.createFixedRateBond(TEST_ISIN, 5);
+        testUtils.createFixedRateBond(TEST_SECOND_ISIN, 7);
+        fixedRateBondAnalyticsSnapshot.remove(bond.getId());
+
+        ISINHoldings holdings = getHoldingsByISIN(TEST_ISIN);
+        ISINHoldings notHeldISINHoldings = getHoldingsByISIN(TEST_NOT_HELD_ISIN);
+
+        assertEquals(TEST_ISIN, holdings.iSIN());
+        assertEquals(2, holdings.holdingsCount());
+        assertEquals(15L, holdings.totalAssetCount());
+        assertEquals(0, notHeldISINHoldings.holdingsCount());
+        assertEquals(0L, notHeldISINHoldings.totalAssetCount());
+    }
+
+    @Test
+    public void getTopFixedRateBondsByYieldWithTooBigLimitIT() throws Exception {
+        FixedRateBond bond = testUtils.createFixedRateBond(TEST_ISIN, 10);
+
+        var response = testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + TOP_BY_YIELD_PATH)
+                        .param("limit", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<FixedRateBondMetrics> topBonds = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        assertThat(topBonds).extracting(FixedRateBondMetrics::id).containsExactly(bond.getId());
+        Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + TOP_BY_YIELD_PATH)
+                        .param("limit", "0")));
+    }
+
+    @Test
+    public void getFixedRateBondsMaturityBucketsWithTooManyBucketsIT() throws Exception {
+        var response = testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + MATURITY_BUCKETS_PATH)
+                        .param("bucketsCount", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<MaturityBucket> buckets = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        assertThat(buckets).hasSize(100);
+        Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + MATURITY_BUCKETS_PATH)
+                        .param("bucketsCount", "-1")));
+    }
+
+    @Test
+    public void getFixedRateBondsMaturityBucketsWithTooLongBucketIT() throws Exception {
+        var response = testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + MATURITY_BUCKETS_PATH)
+                        .param("bucketDays", String.valueOf(Integer.MAX_VALUE))
+                        .param("bucketsCount", "100"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<MaturityBucket> buckets = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        assertThat(buckets).hasSize(100);
+        Assertions.assertEquals(buckets.get(0).from().plusDays(3650), buckets.get(0).to());
+    }
+
+    @Test
+    public void exportFixedRateBondHoldingsIT() throws Exception {
+        FixedRateBond firstBond = testUtils.createFixedRateBond(TEST_ISIN, 10);
+        FixedRateBond secondBond = testUtils.createFixedRateBond(TEST_SECOND_ISIN, 7);
+        Long accountId = accountRepository.findAll().get(0).getId();
+        Long assetsOwnerId = russianAssetsOwnerRepository.findAll().get(0).getId();
+
+        MvcResult exportStartResult = testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + EXPORT_PATH))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        var response = testUtils.perform(asyncDispatch(exportStartResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(NDJSON_MEDIA_TYPE))
+                .andReturn()
+                .getResponse();
+        String[] exportLines = response.getContentAsString().split("\n");
+        Map<Long, FixedRateBondHoldingDTO> holdingsByBondId = new HashMap<>();
+
+        for (String exportLine : exportLines) {
+            FixedRateBondHoldingDTO holding = fromJson(exportLine, new TypeReference<>() {});
+
+            holdingsByBondId.put(holding.getBondId(), holding);
+        }
+
+        assertThat(exportLines).hasSize(2);
+        assertThat(holdingsByBondId).containsOnlyKeys(firstBond.getId(), secondBond.getId());
+        assertEquals(TEST_ISIN, holdingsByBondId.get(firstBond.getId()).getISIN());
+        assertEquals(7, holdingsByBondId.get(secondBond.getId()).getAssetCount());
+        assertThat(holdingsByBondId.values()).allSatisfy(holding -> {
+            assertEquals(assetsOwnerId, holding.getAssetsOwnerId());
+            assertEquals(accountId, holding.getAccountId());
+        });
+    }
+
+    private List<Long> getBondIdsByISIN(String iSIN) throws Exception {
+        var response = testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + ISIN_PATH, iSIN))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        List<Map<String, Object>> bonds = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        return bonds.stream()
+                .map(bond -> ((Number) bond.get("id")).longValue())
+                .toList();
+    }
+
+    private ISINHoldings getHoldingsByISIN(String iSIN) throws Exception {
+        var response = testUtils.perform(get("/data" + FIXED_RATE_BOND_CONTROLLER_PATH + ISIN_HOLDINGS_PATH, iSIN))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        return fromJson(response.getContentAsString(), new TypeReference<>() {});
+    }
+}
@@ -4,7 +4,9 @@ import com.fasterxml.jackson.core.type.TypeReference;
 
 import fund.data.assets.TestUtils;
 import fund.data.assets.config.SpringConfigForTests;
+import fund.data.assets.dto.owner.ContactDataRussianAssetsOwnerDTO;
 import fund.data.assets.dto.owner.NewRussianAssetsOwnerDTO;
+import fund.data.assets.dto.owner.PersonalDataRussianAssetsOwnerDTO;
 import fund.data.assets.model.owner.RussianAssetsOwner;
 import fund.data.assets.repository.RussianAssetsOwnerRepository;
 import fund.data.assets.service.RussianAssetsOwnerService;
@@ -15,20 +17,35 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import org.openapitools.jackson.nullable.JsonNullable;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.ResultActions;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static fund.data.assets.TestUtils.fromJson;
 import static fund.data.assets.TestUtils.asJson;
 import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
 import static fund.data.assets.controller.RussianAssetsOwnerController.ID_PATH;
 import static fund.data.assets.controller.RussianAssetsOwnerController.CONTACT_DATA_PATH;
+import static fund.data.assets.controller.RussianAssetsOwnerController.HOLDINGS_PATH;
+import static fund.data.assets.controller.RussianAssetsOwnerController.IMPORT_PATH;
+import static fund.data.assets.controller.RussianAssetsOwnerController.NDJSON_MEDIA_TYPE;
 import static fund.data.assets.controller.RussianAssetsOwnerController.PERSONAL_DATA_PATH;
 import static fund.data.assets.controller.RussianAssetsOwnerController.RUSSIAN_OWNERS_CONTROLLER_PATH;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_UNIQUE_EMAIL_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_UNIQUE_IMPORT_EMAIL_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_UNIQUE_IMPORT_RF_PASSPORT_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_UNIQUE_MOBILE_PHONE_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_UNIQUE_RF_PASSPORT_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.NOT_VALID_IMPORT_LINE_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.TOO_BIG_IMPORT_BATCH_WARNING;
+import static fund.data.assets.service.impl.RussianAssetsOwnerServiceImpl.WRONG_DATES_WARNING;
 import static fund.data.assets.utils.enums.RussianSexEnum.WOMAN;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -97,6 +114,25 @@ public class RussianAssetsOwnerControllerIT {
                 russianAssetsOwnerFromResponse.getIssuerOrganisationCode());
     }
 
+    @Test
+    public void getRussianAssetsOwnerWithHoldingsIT() throws Exception {
+        testUtils.createDefaultRussianAssetsOwner();
+
+        RussianAssetsOwner expectedRussianAssetsOwner = russianAssetsOwnerRepository.findAll().get(0);
+        var response = testUtils.perform(
+                        get("/data" + RUSSIAN_OWNERS_CONTROLLER_PATH + ID_PATH + HOLDINGS_PATH,
+                                expectedRussianAssetsOwner.getId())
+                ).andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+        RussianAssetsOwner russianAssetsOwnerFromResponse = fromJson(response.getContentAsString(),
+                new TypeReference<>() {});
+
+        assertEquals(expectedRussianAssetsOwner.getId(), russianAssetsOwnerFromResponse.getId());
+        assertEquals(expectedRussianAssetsOwner.getName(), russianAssetsOwnerFromResponse.getName());
+        assertThat(russianAssetsOwnerFromResponse.getAssetRelationships()).isEmpty();
+    }
+
     @Test
     public void getRussianAssetsOwnersIT() throws Exception {
         testUtils.createDefaultRussianAssetsOwner();
@@ -359,6 +395,110 @@ public class RussianAssetsOwnerControllerIT {
                 testUtils.getNewRussianAssetsOwnerDTO().getPlaceOfBirth());
     }
 
+    @Test
+    public void updateRussianAssetsOwnerWithAlreadyExistsPassportDataIT() throws Exception {
+        testUtils.createDefaultRussianAssetsOwner();
+        testUtils.createRussianAssetsOwner(new NewRussianAssetsOwnerDTO(
+                "another",
+                "another",
+                "24.05.1995",
+                "another_sur@mail.ru",
+                "another",
+                WOMAN,
+                "9777777777",
+                "2425",
+                "111112",
+                testUtils.getNewRussianAssetsOwnerDTO().getPlaceOfBirth(),
+                "another",
+                "25.08.2021",
+                "377-778"
+        ));
+
+        RussianAssetsOwner secondRussianAssetsOwner = russianAssetsOwnerRepository.findAll().stream()
+                .filter(russianAssetsOwner -> russianAssetsOwner.getPassportNumber().equals("111112"))
+                .findFirst()
+                .orElseThrow();
+        PersonalDataRussianAssetsOwnerDTO personalDataDTOWithAlreadyExistsPassportData =
+                new PersonalDataRussianAssetsOwnerDTO(
+                        JsonNullable.of("another"),
+                        JsonNullable.of("another"),
+                        JsonNullable.of("another"),
+                        JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getPassportSeries()),
+                        JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getPassportNumber()),
+                        JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getPlaceOfPassportGiven()),
+                        JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getIssueDate()),
+                        JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getIssuerOrganisationCode()));
+
+        ServletException exception = Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(put("/data" + RUSSIAN_OWNERS_CONTROLLER_PATH + PERSONAL_DATA_PATH + ID_PATH,
+                        secondRussianAssetsOwner.getId())
+                        .content(asJson(personalDataDTOWithAlreadyExistsPassportData))
+                        .contentType(APPLICATION_JSON)));
+
+        assertEquals(NOT_UNIQUE_RF_PASSPORT_WARNING, exception.getRootCause().getMessage());
+        assertEquals("111112", russianAssetsOwnerRepository.findById(secondRussianAssetsOwner.getId())
+                .orElseThrow()
+                .getPassportNumber());
+    }
+
+    @Test
+    public void updateRussianAssetsOwnerWithAlreadyExistsContactDataIT() throws Exception {
+        testUtils.createDefaultRussianAssetsOwner();
+        testUtils.createRussianAssetsOwner(new NewRussianAssetsOwnerDTO(
+                "another",
+                "another",
+                "24.05.1995",
+                "another_sur@mail.ru",
+                "another",
+                WOMAN,
+                "9777777777",
+                "2425",
+                "111112",
+                "another",
+                "another",
+                "25.08.2021",
+                "377-778"
+        ));
+
+        RussianAssetsOwner secondRussianAssetsOwner = russianAssetsOwnerRepository.findAll().stream()
+                .filter(russianAssetsOwner -> russianAssetsOwner.getPassportNumber().equals("111112"))
+                .findFirst()
+                .orElseThrow();
+        ContactDataRussianAssetsOwnerDTO contactDataDTOWithAlreadyExistsEmail = new ContactDataRussianAssetsOwnerDTO(
+                JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getEmail().toLowerCase()),
+                JsonNullable.of("9777777777"));
+        ContactDataRussianAssetsOwnerDTO contactDataDTOWithAlreadyExistsMobilePhone =
+                new ContactDataRussianAssetsOwnerDTO(
+                        JsonNullable.of("another_new_sur@mail.ru"),
+                        JsonNullable.of(testUtils.getNewRussianAssetsOwnerDTO().getMobilePhoneNumber()));
+        ContactDataRussianAssetsOwnerDTO contactDataDTOWithOwnContacts = new ContactDataRussianAssetsOwnerDTO(
+                JsonNullable.of("Another_Sur@mail.ru"),
+                JsonNullable.of("9777777777"));
+
+        ServletException emailException = Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(put("/data" + RUSSIAN_OWNERS_CONTROLLER_PATH + CONTACT_DATA_PATH + ID_PATH,
+                        secondRussianAssetsOwner.getId())
+                        .content(asJson(contactDataDTOWithAlreadyExistsEmail))
+                        .contentType(APPLICATION_JSON)));
+        ServletException mobilePhoneException = Assertions.assertThrows(ServletException.class,
+                () -> testUtils.perform(put("/data" + RUSSIAN_OWNERS_CONTROLLER_PATH + CONTACT_DATA_PATH + ID_PATH,
+                        secondRussianAssetsOwner.getId())
+                        .content(asJson(contactDataDTOWithAlreadyExistsMobilePhone))
+                        .contentType(APPLICATION_JSON)));
+
+        assertEquals(NOT_UNIQUE_EMAIL_WARNING, emailException.getRootCause().getMessage());
+        assertEquals(NOT_UNIQUE_MOBILE_PHONE_WARNING, mobilePhoneException.getRootCause().getMessage());
+        assertEquals("another_sur@mail.ru", russianAssetsOwnerRepository.findById(secondRussianAssetsOwner.getId())
+                .orElseThrow()
+                .getEmail());
+
+        testUtils.perform(put("/data" + RUSSIAN_OWNERS_CONTROLLER_PATH + CONTACT_DATA_PATH + ID_PATH,
+                        secondRussianAssetsOwner.getId())
+                        .content(asJson(contactDataDTOWithOwnContacts))
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
     @Test
     public void deleteRussianAssetsOwnerIT() throws Exception {
         testUtils.createDefaultRussianAssetsOwner();
@@ -373,4 +513,104 @@ public class RussianAssetsOwnerControllerIT {
 
         assertThat(russianAssetsOwnerRepository.findAll()).hasSize(0);
     }
+
+    @Test
+    public void importRussianAssetsOwnersIT() throws Exception {
+        List<NewRussianAssetsOwnerDTO> importedRussianAssetsOwnerDTOs = List.of(
+                getImportedRussianAssetsOwnerDTO(1), getImportedRussianAssetsOwnerDTO(2),
+                getImportedRussianAssetsOwnerDTO(3));
+        var response = importRussianAssetsOwners(importedRussianAssetsOwnerDTOs)
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse();
+        List<Long> importedIds = fromJson(response.getContentAsString(), new TypeReference<>() {});
+
+        assertThat(importedIds).hasSize(3);
+        assertThat(russianAssetsOwnerRepository.findAll()).hasSize(3);
+
+        for (int i = 0; i < importedIds.size(); i++) {
+            assertEquals(importedRussianAssetsOwnerDTOs.get(i).getPassportNumber(),
+                    russianAssetsOwnerRepository.findById(importedIds.get(i)).orElseThrow().getPassportNumber());
+        }
+    }
+
+    @Test
+    public void importRussianAssetsOwnersWithDuplicateInBatchIT() {
+        NewRussianAssetsOwnerDTO duplicateEmailRussianAssetsOwnerDTO = getImportedRussianAssetsOwnerDTO(2);
+
+        duplicateEmailRussianAssetsOwnerDTO.setEmail(getImportedRussianAssetsOwnerDTO(1).getEmail());
+
+        ServletException exception = Assertions.assertThrows(ServletException.class,
+                () -> importRussianAssetsOwners(List.of(getImportedRussianAssetsOwnerDTO(1),
+                        duplicateEmailRussianAssetsOwnerDTO)));
+
+        assertEquals(String.format(NOT_UNIQUE_IMPORT_EMAIL_WARNING, 2), exception.getCause().getMessage());
+        assertThat(russianAssetsOwnerRepository.findAll()).hasSize(0);
+    }
+
+    @Test
+    public void importRussianAssetsOwnersWithAlreadyExistsPassportDataIT() throws Exception {
+        testUtils.createDefaultRussianAssetsOwner();
+
+        NewRussianAssetsOwnerDTO alreadyExistsPassportRussianAssetsOwnerDTO = getImportedRussianAssetsOwnerDTO(2);
+
+        alreadyExistsPassportRussianAssetsOwnerDTO.setPassportSeries(
+                testUtils.getNewRussianAssetsOwnerDTO().getPassportSeries());
+        alreadyExistsPassportRussianAssetsOwnerDTO.setPassportNumber(
+                testUtils.getNewRussianAssetsOwnerDTO().getPassportNumber());
+
+        ServletException exception = Assertions.assertThrows(ServletException.class,
+                () -> importRussianAssetsOwners(List.of(getImportedRussianAssetsOwnerDTO(1),
+                        alreadyExistsPassportRussianAssetsOwnerDTO)));
+
+        assertEquals(String.format(NOT_UNIQUE_IMPORT_RF_PASSPORT_WARNING, 2), exception.getCause().getMessage());
+        assertThat(russianAssetsOwnerRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    public void importTooBigRussianAssetsOwnersBatchIT() {
+        List<NewRussianAssetsOwnerDTO> importedRussianAssetsOwnerDTOs = IntStream.rangeClosed(1, 6)
+                .mapToObj(this::getImportedRussianAssetsOwnerDTO)
+                .toList();
+
+        ServletException exception = Assertions.assertThrows(ServletException.class,
+                () -> importRussianAssetsOwners(importedRussianAssetsOwnerDTOs));
+
+        assertEquals(String.format(TOO_BIG_IMPORT_BATCH_WARNING, 5), exception.getCause().getMessage());
+        assertThat(russianAssetsOwnerRepository.findAll()).hasSize(0);
+    }
+
+    @Test
+    public void importRussianAssetsOwnersWithWrongDatesIT() {
+        NewRussianAssetsOwnerDTO wrongDatesRussianAssetsOwnerDTO = getImportedRussianAssetsOwnerDTO(2);
+
+        wrongDatesRussianAssetsOwnerDTO.setIssueDate("24.08.1990");
+
+        ServletException exception = Assertions.assertThrows(ServletException.class,
+                () -> importRussianAssetsOwners(List.of(getImportedRussianAssetsOwnerDTO(1),
+                        wrongDatesRussianAssetsOwnerDTO)));
+
+        assertEquals(String.format(NOT_VALID_IMPORT_LINE_WARNING, 2, WRONG_DATES_WARNING),
+                exception.getCause().getMessage());
+        assertThat(russianAssetsOwnerRepository.findAll()).hasSize(0);
+    }
+
+    private NewRussianAssetsOwnerDTO getImportedRussianAssetsOwnerDTO(int number) {
+        return new NewRussianAssetsOwnerDTO("importedName", "importedSurname", "25.05.1995",
+                "imported" + number + "@mail.ru", "importedPatronymic", WOMAN,
+                String.format("90000000%02d", number), "2424", String.format("%06d", number), "placeOfBirth",
+                "placeOfPassportGiven", "24.08.2021", "377-777");
+    }
+
+    private ResultActions importRussianAssetsOwners(List<NewRussianAssetsOwnerDTO> newRussianAssetsOwnerDTOs)
+            throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+
+        for (NewRussianAssetsOwnerDTO newRussianAssetsOwnerDTO : newRussianAssetsOwnerDTOs) {
+            ndjson.append(asJson(newRussianAssetsOwnerDTO)).append('\n');
+        }
+        return testUtils.perform(post("/data" + RUSSIAN_OWNERS_CONTROLLER_PATH + IMPORT_PATH)
+                .content(ndjson.toString())
+                .contentType(NDJSON_MEDIA_TYPE));
+    }
 }
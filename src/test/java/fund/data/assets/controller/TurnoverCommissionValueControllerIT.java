@@ -3,6 +3,7 @@ package fund.data.assets.controller;
 import com.fasterxml.jackson.core.type.TypeReference;
 
 import fund.data.assets.TestUtils;
+import fund.data.assets.config.CacheConfig;
 import fund.data.assets.config.SpringConfigForTests;
 import fund.data.assets.dto.TurnoverCommissionValueDTO;
 import fund.data.assets.dto.common.PercentFloatValueDTO;
@@ -10,6 +11,7 @@ import fund.data.assets.exception.NotValidPercentValueInputFormatException;
 import fund.data.assets.model.financial_entities.TurnoverCommissionValue;
 import fund.data.assets.repository.AccountRepository;
 import fund.data.assets.repository.TurnoverCommissionValueRepository;
+import fund.data.assets.service.TurnoverCommissionValueService;
 
 import jakarta.servlet.ServletException;
 
@@ -20,7 +22,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -28,9 +34,9 @@ import static fund.data.assets.TestUtils.fromJson;
 import static fund.data.assets.TestUtils.asJson;
 import static fund.data.assets.TestUtils.TEST_ASSET_TYPE_NAME;
 import static fund.data.assets.TestUtils.TEST_COMMISSION_PERCENT_VALUE;
-import static fund.data.assets.TestUtils.TEST_COMMISSION_PERCENT_VALUE_FLOAT;
+import static fund.data.assets.TestUtils.TEST_COMMISSION_PERCENT_VALUE_FIXED_POINT;
 import static fund.data.assets.TestUtils.TEST_STRING_FORMAT_PERCENT_VALUE;
-import static fund.data.assets.TestUtils.TEST_FORMATTED_PERCENT_VALUE_FLOAT;
+import static fund.data.assets.TestUtils.TEST_FORMATTED_PERCENT_VALUE_FIXED_POINT;
 
 import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
 import static fund.data.assets.controller.AccountController.ID_PATH;
@@ -63,6 +69,12 @@ public class TurnoverCommissionValueControllerIT {
     private AccountRepository accountRepository;
     @Autowired
     private TurnoverCommissionValueRepository turnoverCommissionValueRepository;
+    @Autowired
+    private TurnoverCommissionValueService turnoverCommissionValueService;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     @AfterEach
     public void clearRepositories() {
@@ -137,7 +149,7 @@ public class TurnoverCommissionValueControllerIT {
         assertEquals(turnoverCommissionValueFromResponse.getAssetTypeName(),
                 validTurnoverCommissionValueDTO.getAssetTypeName());
         assertEquals(turnoverCommissionValueFromResponse.getCommissionPercentValue(),
-                TEST_COMMISSION_PERCENT_VALUE_FLOAT);
+                TEST_COMMISSION_PERCENT_VALUE_FIXED_POINT);
         assertNotNull(turnoverCommissionValueFromResponse.getCreatedAt());
         assertNotNull(turnoverCommissionValueFromResponse.getUpdatedAt());
     }
@@ -188,13 +200,39 @@ public class TurnoverCommissionValueControllerIT {
         assertEquals(turnoverCommissionValueFromResponse.getAssetTypeName(),
                 testUtils.getTurnoverCommissionValueDTO().getAssetTypeName());
         assertEquals(turnoverCommissionValueFromResponse.getCommissionPercentValue(),
-                TEST_FORMATTED_PERCENT_VALUE_FLOAT);
+                TEST_FORMATTED_PERCENT_VALUE_FIXED_POINT);
         assertNotNull(turnoverCommissionValueFromResponse.getCreatedAt());
         assertNotNull(turnoverCommissionValueFromResponse.getUpdatedAt());
         assertNotEquals(turnoverCommissionValueFromResponse.getCreatedAt(),
                 turnoverCommissionValueFromResponse.getUpdatedAt());
     }
 
+    @Test
+    public void evictCachedCommissionPercentValueAfterCommitIT() throws Exception {
+        testUtils.createDefaultTurnoverCommissionValue();
+
+        Long createdTurnoverCommissionId = turnoverCommissionValueRepository.findAll().get(0).getId();
+        Long accountId = accountRepository.findByOrganisationWhereAccountOpened(
+                testUtils.getAccountDTO().getOrganisationWhereAccountOpened()).getId();
+        Cache commissionPercentValuesCache = cacheManager.getCache(
+                CacheConfig.TURNOVER_COMMISSION_PERCENT_VALUES_CACHE);
+        SimpleKey cacheKey = new SimpleKey(accountId, TEST_ASSET_TYPE_NAME);
+
+        assertEquals(TEST_COMMISSION_PERCENT_VALUE_FIXED_POINT,
+                turnoverCommissionValueRepository.findCommissionPercentValue(accountId, TEST_ASSET_TYPE_NAME));
+        assertNotNull(commissionPercentValuesCache.get(cacheKey));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            turnoverCommissionValueService.updateTurnoverCommissionValue(createdTurnoverCommissionId,
+                    new PercentFloatValueDTO(TEST_STRING_FORMAT_PERCENT_VALUE));
+            assertNotNull(commissionPercentValuesCache.get(cacheKey));
+        });
+
+        assertNull(commissionPercentValuesCache.get(cacheKey));
+        assertEquals(TEST_FORMATTED_PERCENT_VALUE_FIXED_POINT,
+                turnoverCommissionValueRepository.findCommissionPercentValue(accountId, TEST_ASSET_TYPE_NAME));
+    }
+
     @Test
     public void notValidUpdateTurnoverCommissionValueIT() throws Exception {
         testUtils.createDefaultTurnoverCommissionValue();
@@ -213,7 +251,7 @@ public class TurnoverCommissionValueControllerIT {
                 .hasMessageContaining(NotValidPercentValueInputFormatException.MESSAGE);
 
         assertEquals(turnoverCommissionValueRepository.findAll().get(0).getCommissionPercentValue(),
-                TEST_COMMISSION_PERCENT_VALUE_FLOAT);
+                TEST_COMMISSION_PERCENT_VALUE_FIXED_POINT);
     }
 
     @Test
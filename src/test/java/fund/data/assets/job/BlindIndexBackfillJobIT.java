@@ -0,0 +1,74 @@
+package fund.data.assets.job;
+
+import fund.data.assets.TestUtils;
+import fund.data.assets.config.SpringConfigForTests;
+import fund.data.assets.model.owner.RussianAssetsOwner;
+import fund.data.assets.repository.RussianAssetsOwnerRepository;
+import fund.data.assets.utils.BlindIndexCalculator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(classes = SpringConfigForTests.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles(TEST_PROFILE)
+@AutoConfigureMockMvc
+public class BlindIndexBackfillJobIT {
+    private static final String CLEAR_EMAIL_BLIND_INDEX = "update assets_owner set email_blind_index = null";
+    private static final String CLEAR_PERSONAL_DATA_BLIND_INDEXES = "update russian_assets_owner"
+            + " set mobile_phone_blind_index = null, passport_fingerprint = null";
+    @Autowired
+    private TestUtils testUtils;
+    @Autowired
+    private RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    @Autowired
+    private BlindIndexCalculator blindIndexCalculator;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void clearRepositories() {
+        testUtils.tearDown();
+    }
+
+    @Test
+    public void backfillBlindIndexesIT() throws Exception {
+        testUtils.createDefaultRussianAssetsOwner();
+
+        RussianAssetsOwner ownerBeforeJob = russianAssetsOwnerRepository.findAll().get(0);
+
+        jdbcTemplate.update(CLEAR_EMAIL_BLIND_INDEX);
+        jdbcTemplate.update(CLEAR_PERSONAL_DATA_BLIND_INDEXES);
+        assertThat(russianAssetsOwnerRepository.findWithoutBlindIndexes(0L, PageRequest.of(0, 10))).hasSize(1);
+
+        new BlindIndexBackfillJob(russianAssetsOwnerRepository, blindIndexCalculator, transactionTemplate, 1)
+                .run(new DefaultApplicationArguments());
+
+        RussianAssetsOwner ownerAfterJob = russianAssetsOwnerRepository.findAll().get(0);
+
+        assertNotNull(ownerAfterJob.getEmailBlindIndex());
+        assertEquals(ownerBeforeJob.getEmailBlindIndex(), ownerAfterJob.getEmailBlindIndex());
+        assertEquals(ownerBeforeJob.getMobilePhoneBlindIndex(), ownerAfterJob.getMobilePhoneBlindIndex());
+        assertEquals(ownerBeforeJob.getPassportFingerprint(), ownerAfterJob.getPassportFingerprint());
+        assertThat(russianAssetsOwnerRepository.findWithoutBlindIndexes(0L, PageRequest.of(0, 10))).isEmpty();
+    }
+}
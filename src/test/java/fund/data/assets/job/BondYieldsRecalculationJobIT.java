@@ -0,0 +1,89 @@
+package fund.data.assets.job;
+
+import fund.data.assets.TestUtils;
+import fund.data.assets.config.SpringConfigForTests;
+import fund.data.assets.model.asset.exchange.FixedRateBond;
+import fund.data.assets.repository.FixedRateBondRepository;
+import fund.data.assets.utils.pricing.BondPricingEngine;
+import fund.data.assets.utils.pricing.BondPricingResult;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(classes = SpringConfigForTests.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles(TEST_PROFILE)
+@AutoConfigureMockMvc
+public class BondYieldsRecalculationJobIT {
+    private static final String TEST_ISIN = "RU000A0JX0J2";
+    private static final String UPDATE_BOND_MATURITY_DATE = "update asset set bond_maturity_date = ? where id = ?";
+    @Autowired
+    private TestUtils testUtils;
+    @Autowired
+    private FixedRateBondRepository fixedRateBondRepository;
+    @Autowired
+    private BondPricingEngine bondPricingEngine;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    public void prepareOwnerAndAccount() throws Exception {
+        testUtils.createDefaultAccount();
+        testUtils.createDefaultRussianAssetsOwner();
+    }
+
+    @AfterEach
+    public void clearRepositories() {
+        testUtils.tearDown();
+    }
+
+    @Test
+    public void recalculateYieldsIT() {
+        List<FixedRateBond> notRedeemedBonds = List.of(
+                testUtils.createFixedRateBond(TEST_ISIN, 10),
+                testUtils.createFixedRateBond(TEST_ISIN, 5),
+                testUtils.createFixedRateBond(TEST_ISIN, 7));
+        FixedRateBond redeemedBond = testUtils.createFixedRateBond(TEST_ISIN, 3);
+        LocalDate valuationDate = LocalDate.now().plusYears(1);
+
+        jdbcTemplate.update(UPDATE_BOND_MATURITY_DATE, valuationDate, redeemedBond.getId());
+        new BondYieldsRecalculationJob(fixedRateBondRepository, bondPricingEngine, transactionTemplate,
+                meterRegistry, 1, 2).recalculateYields(valuationDate);
+
+        for (FixedRateBond bond : notRedeemedBonds) {
+            BondPricingResult expectedPricing = bondPricingEngine.calculate(bond.toRepricingInput(valuationDate));
+            FixedRateBond recalculatedBond = fixedRateBondRepository.findById(bond.getId()).orElseThrow();
+
+            assertNotEquals(bond.getSimpleYieldToMaturity(), recalculatedBond.getSimpleYieldToMaturity());
+            assertEquals(expectedPricing.simpleYieldToMaturity(), recalculatedBond.getSimpleYieldToMaturity());
+            assertEquals(expectedPricing.markDementevYieldIndicator(),
+                    recalculatedBond.getMarkDementevYieldIndicator());
+        }
+        assertEquals(redeemedBond.getSimpleYieldToMaturity(),
+                fixedRateBondRepository.findById(redeemedBond.getId()).orElseThrow().getSimpleYieldToMaturity());
+        assertEquals(3.0, meterRegistry.counter("bond.yields.recalculation.processed").count());
+        assertEquals(0.0, meterRegistry.counter("bond.yields.recalculation.failed").count());
+    }
+}
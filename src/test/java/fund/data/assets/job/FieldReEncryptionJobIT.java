@@ -0,0 +1,85 @@
+package fund.data.assets.job;
+
+import fund.data.assets.TestUtils;
+import fund.data.assets.config.SpringConfigForTests;
+import fund.data.assets.model.owner.RussianAssetsOwner;
+import fund.data.assets.repository.RussianAssetsOwnerRepository;
+import fund.data.assets.utils.crypto.AesGcmStringEncryptor;
+
+import org.jasypt.encryption.StringEncryptor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static fund.data.assets.config.SpringConfigForTests.TEST_PROFILE;
+import static fund.data.assets.utils.crypto.AesGcmStringEncryptor.CIPHERTEXT_VERSION_PREFIX;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+@SpringBootTest(classes = SpringConfigForTests.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles(TEST_PROFILE)
+@AutoConfigureMockMvc
+public class FieldReEncryptionJobIT {
+    private static final String SELECT_ENCRYPTED_FIELDS = "select o.email, o.version, r.mobile_phone_number,"
+            + " r.passport_series, r.passport_number from assets_owner o join russian_assets_owner r on r.id = o.id"
+            + " where o.id = ?";
+    @Autowired
+    private TestUtils testUtils;
+    @Autowired
+    private RussianAssetsOwnerRepository russianAssetsOwnerRepository;
+    @Autowired
+    private StringEncryptor fieldStringEncryptor;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    public void clearRepositories() {
+        testUtils.tearDown();
+    }
+
+    @Test
+    public void reEncryptLegacyEncryptedFieldsIT() throws Exception {
+        testUtils.createDefaultRussianAssetsOwner();
+
+        RussianAssetsOwner owner = russianAssetsOwnerRepository.findAll().get(0);
+        AesGcmStringEncryptor aesGcmStringEncryptor = new AesGcmStringEncryptor("aesGcmPassword",
+                "aesGcmSalt", 1000, fieldStringEncryptor);
+        Map<String, Object> fieldsBeforeJob = jdbcTemplate.queryForMap(SELECT_ENCRYPTED_FIELDS, owner.getId());
+
+        new FieldReEncryptionJob(russianAssetsOwnerRepository, aesGcmStringEncryptor, transactionTemplate, 1)
+                .run(new DefaultApplicationArguments());
+
+        Map<String, Object> fieldsAfterJob = jdbcTemplate.queryForMap(SELECT_ENCRYPTED_FIELDS, owner.getId());
+
+        assertThat((String) fieldsBeforeJob.get("email")).doesNotStartWith(CIPHERTEXT_VERSION_PREFIX);
+        assertThat((String) fieldsAfterJob.get("email")).startsWith(CIPHERTEXT_VERSION_PREFIX);
+        assertThat((String) fieldsAfterJob.get("mobile_phone_number")).startsWith(CIPHERTEXT_VERSION_PREFIX);
+        assertThat((String) fieldsAfterJob.get("passport_series")).startsWith(CIPHERTEXT_VERSION_PREFIX);
+        assertThat((String) fieldsAfterJob.get("passport_number")).startsWith(CIPHERTEXT_VERSION_PREFIX);
+        assertEquals(owner.getEmail(), aesGcmStringEncryptor.decrypt((String) fieldsAfterJob.get("email")));
+        assertEquals(owner.getMobilePhoneNumber(),
+                aesGcmStringEncryptor.decrypt((String) fieldsAfterJob.get("mobile_phone_number")));
+        assertEquals(owner.getPassportSeries(),
+                aesGcmStringEncryptor.decrypt((String) fieldsAfterJob.get("passport_series")));
+        assertEquals(owner.getPassportNumber(),
+                aesGcmStringEncryptor.decrypt((String) fieldsAfterJob.get("passport_number")));
+        assertEquals(owner.getVersion() + 1, ((Number) fieldsAfterJob.get("version")).longValue());
+        assertThat(russianAssetsOwnerRepository.findIdsWithLegacyEncryptedFields(0L, 10)).isEmpty();
+    }
+}
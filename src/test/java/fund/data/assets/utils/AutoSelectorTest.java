@@ -7,6 +7,7 @@ import fund.data.assets.utils.enums.CommissionSystem;
 import fund.data.assets.utils.enums.TaxSystem;
 
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -63,6 +64,21 @@ public class AutoSelectorTest {
         }
     }
 
+    @Test
+    public void testSelectTypedAssetOperationsCostSystems() {
+        Assertions.assertEquals(new AutoSelector.AssetOperationsCostSystems(CommissionSystem.TURNOVER,
+                        TaxSystem.EQUAL_COUPON_DIVIDEND_TRADE),
+                AutoSelector.selectAssetOperationsCostSystems(AssetCurrency.RUSRUB, FixedRateBond.class.getTypeName()));
+        Assertions.assertEquals(CommissionSystem.TURNOVER,
+                AutoSelector.selectCommissionSystem(AssetCurrency.RUSRUB, FixedRateBond.class.getTypeName()));
+        Assertions.assertEquals(TaxSystem.EQUAL_COUPON_DIVIDEND_TRADE,
+                AutoSelector.selectTaxSystem(AssetCurrency.RUSRUB, FixedRateBond.class.getTypeName()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AutoSelector.selectTaxSystem(TEST_WRONG_CURRENCY, FixedRateBond.class.getTypeName()));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> AutoSelector.selectCommissionSystem(AssetCurrency.RUSRUB, TEST_WRONG_ASSET_TYPE));
+    }
+
     static class testSelectAssetOperationsCostSystemProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
@@ -0,0 +1,59 @@
+package fund.data.assets.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+public class BlindIndexCalculatorTest {
+    private static final LocalDate PASSPORT_ISSUE_DATE = LocalDate.of(2015, 6, 1);
+    private final BlindIndexCalculator blindIndexCalculator = new BlindIndexCalculator("blindIndexKey");
+
+    @Test
+    public void testEmailBlindIndexIsCaseInsensitive() {
+        String emailBlindIndex = blindIndexCalculator.calculateEmailBlindIndex("testemail@test.com");
+
+        Assertions.assertEquals(emailBlindIndex, blindIndexCalculator.calculateEmailBlindIndex("TestEmail@Test.COM"));
+        Assertions.assertEquals(emailBlindIndex, blindIndexCalculator.calculateEmailBlindIndex(" testemail@test.com "));
+        Assertions.assertNotEquals(emailBlindIndex, blindIndexCalculator.calculateEmailBlindIndex(
+                "anotheremail@test.com"));
+        Assertions.assertNull(blindIndexCalculator.calculateEmailBlindIndex(null));
+    }
+
+    @Test
+    public void testMobilePhoneBlindIndexIgnoresFormatting() {
+        String mobilePhoneBlindIndex = blindIndexCalculator.calculateMobilePhoneBlindIndex("+79008888888");
+
+        Assertions.assertEquals(mobilePhoneBlindIndex, blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                "+7 (900) 888-88-88"));
+        Assertions.assertEquals(mobilePhoneBlindIndex, blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                "89008888888"));
+        Assertions.assertEquals(mobilePhoneBlindIndex, blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                "8 900 888 88 88"));
+        Assertions.assertEquals(mobilePhoneBlindIndex, blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                "9008888888"));
+        Assertions.assertNotEquals(mobilePhoneBlindIndex, blindIndexCalculator.calculateMobilePhoneBlindIndex(
+                "+79008888889"));
+    }
+
+    @Test
+    public void testPassportFingerprintIgnoresSeriesWhitespace() {
+        String passportFingerprint = calculatePassportFingerprint("4508", "123456");
+
+        Assertions.assertEquals(passportFingerprint, calculatePassportFingerprint("45 08", "123456"));
+        Assertions.assertEquals(passportFingerprint, calculatePassportFingerprint(" 45\t08 ", "123456"));
+        Assertions.assertNotEquals(passportFingerprint, calculatePassportFingerprint("4509", "123456"));
+        Assertions.assertNotEquals(passportFingerprint, calculatePassportFingerprint("4508", "123457"));
+    }
+
+    @Test
+    public void testBlindIndexDependsOnKey() {
+        Assertions.assertNotEquals(blindIndexCalculator.calculateEmailBlindIndex("testemail@test.com"),
+                new BlindIndexCalculator("anotherBlindIndexKey").calculateEmailBlindIndex("testemail@test.com"));
+    }
+
+    private String calculatePassportFingerprint(String passportSeries, String passportNumber) {
+        return blindIndexCalculator.calculatePassportFingerprint(passportSeries, passportNumber, "placeOfBirth",
+                "placeOfPassportGiven", PASSPORT_ISSUE_DATE, "999-999");
+    }
+}
@@ -31,9 +31,9 @@ import static org.springframework.boot.test.context.SpringBootTest.WebEnvironmen
 @AutoConfigureMockMvc
 public class CommissionCalculatorTest {
     public static final Integer TEST_ASSET_COUNT = 10;
-    public static final Float TEST_DIRTY_BOND_PRICE_IN_CURRENCY = 1000.0F;
-    public static final String CSV_SOURCE_TEST_VALUE_FIRST = "2, 200.0F";
-    public static final String CSV_SOURCE_TEST_VALUE_SECOND = "20, 2000.0F";
+    public static final Long TEST_DIRTY_BOND_PRICE_IN_MINOR_UNITS = 100000L;
+    public static final String CSV_SOURCE_TEST_VALUE_FIRST = "2, 20000";
+    public static final String CSV_SOURCE_TEST_VALUE_SECOND = "20, 200000";
     @Autowired
     private TestUtils testUtils;
     @Autowired
@@ -57,15 +57,15 @@ public class CommissionCalculatorTest {
     @EnumSource(CommissionSystem.class)
     public void testCalculateTotalCommissionForPurchaseNotImplementedCommissionSystem(
             CommissionSystem commissionSystem) {
-        Supplier<Float> calculation = new Supplier<>() {
+        Supplier<Long> calculation = new Supplier<>() {
             @Override
-            public Float get() {
+            public Long get() {
                 return commissionCalculator.calculateTotalCommissionForPurchase(
                         commissionSystem,
-                        accountService.getAccounts().get(0),
+                        accountService.getAccounts(null, null).get(0),
                         TEST_ASSET_TYPE_NAME,
                         TEST_ASSET_COUNT,
-                        TEST_DIRTY_BOND_PRICE_IN_CURRENCY);
+                        TEST_DIRTY_BOND_PRICE_IN_MINOR_UNITS);
             }
         };
 
@@ -78,9 +78,9 @@ public class CommissionCalculatorTest {
 
     @ParameterizedTest
     @CsvSource(value = {CSV_SOURCE_TEST_VALUE_FIRST, CSV_SOURCE_TEST_VALUE_SECOND})
-    public void testCalculateTotalCommissionForPurchase(String commissionPercentValue, Float inputCorrectResult) {
+    public void testCalculateTotalCommissionForPurchase(String commissionPercentValue, Long inputCorrectResult) {
         Long turnoverCommissionValueIDToUpdate = turnoverCommissionValueService
-                .getTurnoverCommissionValues().get(0).getId();
+                .getTurnoverCommissionValues(null, null).get(0).getId();
 
         final PercentFloatValueDTO percentFloatValueDTO = testUtils.getPercentFloatValueDTO();
         percentFloatValueDTO.setPercentValue(commissionPercentValue);
@@ -89,10 +89,10 @@ public class CommissionCalculatorTest {
 
         Assertions.assertEquals(commissionCalculator.calculateTotalCommissionForPurchase(
                 CommissionSystem.TURNOVER,
-                accountService.getAccounts().get(0),
+                accountService.getAccounts(null, null).get(0),
                 TEST_ASSET_TYPE_NAME,
                 TEST_ASSET_COUNT,
-                TEST_DIRTY_BOND_PRICE_IN_CURRENCY
+                TEST_DIRTY_BOND_PRICE_IN_MINOR_UNITS
                 ), inputCorrectResult);
     }
 }
@@ -0,0 +1,48 @@
+package fund.data.assets.utils;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static fund.data.assets.utils.OptimisticLockTemplate.CONFLICTS_METRIC;
+import static fund.data.assets.utils.OptimisticLockTemplate.OPERATION_TAG;
+
+import static org.mockito.Mockito.mock;
+
+public class OptimisticLockTemplateTest {
+    public static final String TEST_OPERATION_NAME = "testOperation";
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OptimisticLockTemplate optimisticLockTemplate = new OptimisticLockTemplate(
+            mock(PlatformTransactionManager.class), meterRegistry);
+
+    @Test
+    public void testExecuteReturnsResult() {
+        Assertions.assertEquals(TEST_OPERATION_NAME, optimisticLockTemplate.execute(TEST_OPERATION_NAME,
+                () -> TEST_OPERATION_NAME));
+        Assertions.assertEquals(0, meterRegistry.counter(CONFLICTS_METRIC, OPERATION_TAG, TEST_OPERATION_NAME)
+                .count());
+    }
+
+    @Test
+    public void testExecuteReportsConflictWithoutRetry() {
+        AtomicInteger attemptsCount = new AtomicInteger();
+
+        ResponseStatusException conflict = Assertions.assertThrows(ResponseStatusException.class,
+                () -> optimisticLockTemplate.execute(TEST_OPERATION_NAME, () -> {
+                    throw new ObjectOptimisticLockingFailureException(Object.class, attemptsCount.incrementAndGet());
+                }));
+
+        Assertions.assertEquals(HttpStatus.CONFLICT, conflict.getStatusCode());
+        Assertions.assertEquals(1, attemptsCount.get());
+        Assertions.assertEquals(1, meterRegistry.counter(CONFLICTS_METRIC, OPERATION_TAG, TEST_OPERATION_NAME)
+                .count());
+    }
+}
@@ -0,0 +1,119 @@
+package fund.data.assets.utils.analytics;
+
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.BondYieldType;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.IssuerAggregate;
+import fund.data.assets.utils.analytics.FixedRateBondAnalyticsSnapshot.MaturityBucket;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.LongStream;
+
+public class FixedRateBondAnalyticsSnapshotTest {
+    public static final LocalDate TEST_VALUATION_DATE = LocalDate.of(2024, 1, 1);
+    public static final String TEST_FIRST_ISSUER = "Issuer A";
+    public static final String TEST_SECOND_ISSUER = "Issuer B";
+    public static final String TEST_ISIN = "RU000A0JX0J2";
+    public static final String TEST_SECOND_ISIN = "RU000A0ZYG52";
+    private FixedRateBondAnalyticsSnapshot snapshot;
+
+    @BeforeEach
+    public void prepareSnapshot() {
+        snapshot = new FixedRateBondAnalyticsSnapshot(null);
+
+        snapshot.upsert(getMetrics(1L, TEST_FIRST_ISSUER, 100, 0.08F, 0.07F));
+        snapshot.upsert(getMetrics(2L, TEST_FIRST_ISSUER, 400, 0.12F, null));
+        snapshot.upsert(getMetrics(3L, TEST_SECOND_ISSUER, 800, 0.10F, 0.09F));
+    }
+
+    @Test
+    public void testFindTopByYield() {
+        List<FixedRateBondMetrics> topBySimpleYield = snapshot.findTopByYield(
+                BondYieldType.SIMPLE_YIELD_TO_MATURITY, 2);
+        List<FixedRateBondMetrics> topByMarkDementevYield = snapshot.findTopByYield(
+                BondYieldType.MARK_DEMENTEV_YIELD_INDICATOR, 5);
+
+        Assertions.assertEquals(List.of(2L, 3L), topBySimpleYield.stream().map(FixedRateBondMetrics::id).toList());
+        Assertions.assertEquals(List.of(3L, 1L),
+                topByMarkDementevYield.stream().map(FixedRateBondMetrics::id).toList());
+    }
+
+    @Test
+    public void testCountByMaturityBuckets() {
+        List<MaturityBucket> buckets = snapshot.countByMaturityBuckets(TEST_VALUATION_DATE, 365, 2);
+
+        Assertions.assertEquals(2, buckets.size());
+        Assertions.assertEquals(1, buckets.get(0).bondsCount());
+        Assertions.assertEquals(2, buckets.get(1).bondsCount());
+        Assertions.assertNull(buckets.get(1).to());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> snapshot.countByMaturityBuckets(TEST_VALUATION_DATE, 0, 2));
+    }
+
+    @Test
+    public void testAggregateByIssuerAfterUpdateAndRemove() {
+        snapshot.upsert(getMetrics(1L, TEST_SECOND_ISSUER, 100, 0.08F, 0.07F));
+        snapshot.remove(2L);
+
+        List<IssuerAggregate> issuerAggregates = snapshot.aggregateByIssuer();
+
+        Assertions.assertEquals(2, snapshot.size());
+        Assertions.assertEquals(1, issuerAggregates.size());
+        Assertions.assertEquals(TEST_SECOND_ISSUER, issuerAggregates.get(0).assetIssuerTitle());
+        Assertions.assertEquals(1, issuerAggregates.get(0).bondsCount());
+        Assertions.assertEquals(2000000L, issuerAggregates.get(0).totalParValue());
+        Assertions.assertEquals(0.09F, issuerAggregates.get(0).averageSimpleYieldToMaturity(), 0.0001F);
+    }
+
+    @Test
+    public void testAggregateByIssuerCountsDistinctISINs() {
+        snapshot.upsert(getMetrics(4L, TEST_SECOND_ISIN, TEST_FIRST_ISSUER, 200, 0.20F, null));
+
+        List<IssuerAggregate> issuerAggregates = snapshot.aggregateByIssuer();
+
+        Assertions.assertEquals(2, issuerAggregates.size());
+        Assertions.assertEquals(TEST_FIRST_ISSUER, issuerAggregates.get(0).assetIssuerTitle());
+        Assertions.assertEquals(2, issuerAggregates.get(0).bondsCount());
+        Assertions.assertEquals(3000000L, issuerAggregates.get(0).totalParValue());
+        Assertions.assertEquals(0.15F, issuerAggregates.get(0).averageSimpleYieldToMaturity(), 0.0001F);
+        Assertions.assertEquals(1, issuerAggregates.get(1).bondsCount());
+    }
+
+    @Test
+    public void testAggregateByIssuerWithTooBigParValue() {
+        snapshot.upsert(new FixedRateBondMetrics(4L, TEST_SECOND_ISIN, TEST_FIRST_ISSUER, 10, Long.MAX_VALUE / 5,
+                950000L, 4000L, TEST_VALUATION_DATE.plusDays(200), 0.08F, null));
+
+        Assertions.assertThrows(ArithmeticException.class, () -> snapshot.aggregateByIssuer());
+    }
+
+    @Test
+    public void testUpsertAndRemoveManyBonds() {
+        LongStream.rangeClosed(4L, 20L)
+                .forEach(id -> snapshot.upsert(getMetrics(id, TEST_FIRST_ISSUER, 100, 0.08F, 0.07F)));
+        LongStream.rangeClosed(1L, 20L)
+                .filter(id -> id % 2 == 0)
+                .forEach(snapshot::remove);
+
+        Assertions.assertEquals(10, snapshot.size());
+        Assertions.assertArrayEquals(LongStream.rangeClosed(1L, 20L).filter(id -> id % 2 != 0).toArray(),
+                snapshot.findTopByYield(BondYieldType.SIMPLE_YIELD_TO_MATURITY, 20).stream()
+                        .mapToLong(FixedRateBondMetrics::id)
+                        .sorted()
+                        .toArray());
+    }
+
+    private FixedRateBondMetrics getMetrics(Long id, String issuer, int daysBeforeMaturity, Float simpleYield,
+                                            Float markDementevYield) {
+        return getMetrics(id, TEST_ISIN, issuer, daysBeforeMaturity, simpleYield, markDementevYield);
+    }
+
+    private FixedRateBondMetrics getMetrics(Long id, String iSIN, String issuer, int daysBeforeMaturity,
+                                            Float simpleYield, Float markDementevYield) {
+        return new FixedRateBondMetrics(id, iSIN, issuer, 10, 100000L, 950000L, 4000L,
+                TEST_VALUATION_DATE.plusDays(daysBeforeMaturity), simpleYield, markDementevYield);
+    }
+}
@@ -0,0 +1,94 @@
+package fund.data.assets.utils.crypto;
+
+import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static fund.data.assets.utils.crypto.AesGcmStringEncryptor.BROKEN_CIPHERTEXT_WARNING;
+import static fund.data.assets.utils.crypto.AesGcmStringEncryptor.CIPHERTEXT_VERSION_PREFIX;
+import static fund.data.assets.utils.crypto.AesGcmStringEncryptor.IV_LENGTH_BYTES;
+
+public class AesGcmStringEncryptorTest {
+    private static final String FIELD_VALUE = "testEmail@test.com";
+    private static final String PASSWORD = "aesGcmPassword";
+    private static final String SALT = "aesGcmSalt";
+    private static final int KEY_DERIVATION_ITERATIONS = 1000;
+    private StandardPBEStringEncryptor legacyEncryptor;
+    private AesGcmStringEncryptor aesGcmStringEncryptor;
+
+    @BeforeEach
+    public void setUp() {
+        legacyEncryptor = new StandardPBEStringEncryptor();
+        legacyEncryptor.setPassword("password");
+        legacyEncryptor.setAlgorithm("PBEWithMD5AndDES");
+        aesGcmStringEncryptor = new AesGcmStringEncryptor(PASSWORD, SALT, KEY_DERIVATION_ITERATIONS, legacyEncryptor);
+    }
+
+    @Test
+    public void testEncryptAndDecrypt() {
+        String encryptedValue = aesGcmStringEncryptor.encrypt(FIELD_VALUE);
+
+        Assertions.assertEquals(FIELD_VALUE, aesGcmStringEncryptor.decrypt(encryptedValue));
+        Assertions.assertEquals(FIELD_VALUE, new AesGcmStringEncryptor(PASSWORD, SALT, KEY_DERIVATION_ITERATIONS,
+                legacyEncryptor).decrypt(encryptedValue));
+        Assertions.assertNull(aesGcmStringEncryptor.encrypt(null));
+        Assertions.assertNull(aesGcmStringEncryptor.decrypt(null));
+    }
+
+    @Test
+    public void testCiphertextVersionPrefix() {
+        String encryptedValue = aesGcmStringEncryptor.encrypt(FIELD_VALUE);
+
+        Assertions.assertTrue(encryptedValue.startsWith(CIPHERTEXT_VERSION_PREFIX));
+        Assertions.assertNotEquals(encryptedValue, aesGcmStringEncryptor.encrypt(FIELD_VALUE));
+    }
+
+    @Test
+    public void testDecryptLegacyValue() {
+        String legacyEncryptedValue = legacyEncryptor.encrypt(FIELD_VALUE);
+
+        Assertions.assertFalse(legacyEncryptedValue.startsWith(CIPHERTEXT_VERSION_PREFIX));
+        Assertions.assertEquals(FIELD_VALUE, aesGcmStringEncryptor.decrypt(legacyEncryptedValue));
+    }
+
+    @Test
+    public void testDecryptTamperedCiphertext() {
+        String encryptedValue = aesGcmStringEncryptor.encrypt(FIELD_VALUE);
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> aesGcmStringEncryptor.decrypt(flipByte(encryptedValue, IV_LENGTH_BYTES)));
+
+        Assertions.assertEquals(BROKEN_CIPHERTEXT_WARNING, exception.getMessage());
+    }
+
+    @Test
+    public void testDecryptTamperedIV() {
+        String encryptedValue = aesGcmStringEncryptor.encrypt(FIELD_VALUE);
+
+        IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> aesGcmStringEncryptor.decrypt(flipByte(encryptedValue, 0)));
+
+        Assertions.assertEquals(BROKEN_CIPHERTEXT_WARNING, exception.getMessage());
+    }
+
+    @Test
+    public void testDecryptWithAnotherKey() {
+        String encryptedValue = new AesGcmStringEncryptor("anotherPassword", SALT, KEY_DERIVATION_ITERATIONS,
+                legacyEncryptor).encrypt(FIELD_VALUE);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> aesGcmStringEncryptor.decrypt(encryptedValue));
+    }
+
+    private String flipByte(String encryptedValue, int byteIndex) {
+        byte[] ivAndEncryptedMessage = Base64.getDecoder().decode(encryptedValue.substring(
+                CIPHERTEXT_VERSION_PREFIX.length()));
+
+        ivAndEncryptedMessage[byteIndex] ^= 1;
+
+        return CIPHERTEXT_VERSION_PREFIX + Base64.getEncoder().encodeToString(ivAndEncryptedMessage);
+    }
+}
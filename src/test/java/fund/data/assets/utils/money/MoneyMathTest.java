@@ -0,0 +1,38 @@
+package fund.data.assets.utils.money;
+
+import fund.data.assets.utils.enums.AssetCurrency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+public class MoneyMathTest {
+    @Test
+    public void testApplyPercent() {
+        Assertions.assertEquals(910L, MoneyMath.applyPercent(910000L, 1000L));
+        Assertions.assertEquals(2L, MoneyMath.applyPercent(250L, 10000L));
+        Assertions.assertEquals(4L, MoneyMath.applyPercent(350L, 10000L));
+        Assertions.assertEquals(-2L, MoneyMath.applyPercent(-250L, 10000L));
+    }
+
+    @Test
+    public void testApplyPercentOverflow() {
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> MoneyMath.applyPercent(Long.MAX_VALUE, MoneyMath.PERCENT_SCALE));
+    }
+
+    @Test
+    public void testMinorUnitsConversions() {
+        Assertions.assertEquals(100000L, MoneyMath.toMinorUnits(1000L, AssetCurrency.RUSRUB));
+        Assertions.assertEquals(1002L, MoneyMath.toMinorUnits(new BigDecimal("10.015"), AssetCurrency.RUSRUB));
+        Assertions.assertEquals(new BigDecimal("10.01"), MoneyMath.toAmount(1001L, AssetCurrency.RUSRUB));
+    }
+
+    @Test
+    public void testToPercentValue() {
+        Assertions.assertEquals(201234L, MoneyMath.toPercentValue(new BigDecimal("0.201234")));
+        Assertions.assertThrows(ArithmeticException.class,
+                () -> MoneyMath.toPercentValue(new BigDecimal("0.2012345")));
+    }
+}
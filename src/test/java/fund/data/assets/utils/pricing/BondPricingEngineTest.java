@@ -0,0 +1,44 @@
+package fund.data.assets.utils.pricing;
+
+import fund.data.assets.exception.UnrealAddingAssetsParameterException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public class BondPricingEngineTest {
+    public static final float TEST_DELTA = 0.0001F;
+    public static final long TEST_VALUATION_EPOCH_DAY = LocalDate.of(2024, 1, 1).toEpochDay();
+    private final BondPricingEngine bondPricingEngine = new BondPricingEngine();
+
+    @Test
+    public void testCalculate() {
+        BondPricingResult result = bondPricingEngine.calculate(new BondPricingInput(10, 100000L, 900000L, 1000L,
+                1000L, 5000L, 2, TEST_VALUATION_EPOCH_DAY + 730, TEST_VALUATION_EPOCH_DAY, true));
+
+        Assertions.assertEquals(910L, result.totalCommissionForPurchase());
+        Assertions.assertEquals(910910L, result.totalAssetPurchasePriceWithCommission());
+        Assertions.assertEquals(0.1055555F, result.simpleYieldToMaturity(), TEST_DELTA);
+        Assertions.assertEquals(0.1392005F, result.markDementevYieldIndicator(), TEST_DELTA);
+    }
+
+    @Test
+    public void testCalculateAllWithoutMarkDementevYieldIndicator() {
+        List<BondPricingResult> results = bondPricingEngine.calculateAll(List.of(new BondPricingInput(1, 100000L,
+                1000000L, 0L, 0L, 0L, 0, TEST_VALUATION_EPOCH_DAY + 365, TEST_VALUATION_EPOCH_DAY, false)));
+
+        Assertions.assertEquals(1, results.size());
+        Assertions.assertEquals(0L, results.get(0).totalCommissionForPurchase());
+        Assertions.assertEquals(0.0F, results.get(0).simpleYieldToMaturity(), TEST_DELTA);
+        Assertions.assertNull(results.get(0).markDementevYieldIndicator());
+    }
+
+    @Test
+    public void testCalculateRedeemedBond() {
+        Assertions.assertThrows(UnrealAddingAssetsParameterException.class,
+                () -> bondPricingEngine.calculate(new BondPricingInput(1, 100000L, 1000000L, 0L, 0L, 0L, 0,
+                        TEST_VALUATION_EPOCH_DAY - 1, TEST_VALUATION_EPOCH_DAY, false)));
+    }
+}